@@ -0,0 +1,96 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.util.enums.SplitMethodEnum;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the expense benchmarks.
+ */
+final class ExpenseFixtures {
+
+  private ExpenseFixtures() {
+  }
+
+  static Group group(int members) {
+    List<String> userIds = new ArrayList<>(members);
+    for (int i = 0; i < members; i++) {
+      userIds.add(userId(i));
+    }
+    Group group = new Group();
+    group.setId("group-" + members);
+    group.setGroupName("Benchmark group " + members);
+    group.setUserId(userIds);
+    return group;
+  }
+
+  /**
+   * Items shared among one to four random members each, priced between 0.01 and 100.00.
+   */
+  static List<ExpenseItem> items(Group group, int count) {
+    Random random = new Random(42);
+    List<String> members = group.getUserId();
+    List<ExpenseItem> items = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int sharers = 1 + random.nextInt(Math.min(4, members.size()));
+      List<String> sharedAmong = new ArrayList<>(sharers);
+      for (int j = 0; j < sharers; j++) {
+        sharedAmong.add(members.get(random.nextInt(members.size())));
+      }
+      ExpenseItem item = new ExpenseItem();
+      item.setName("Item " + i);
+      item.setPrice(1 + random.nextInt(10_000));
+      item.setSharedAmong(sharedAmong);
+      items.add(item);
+    }
+    return items;
+  }
+
+  static Expense itemizedExpense(Group group, List<ExpenseItem> items) {
+    Expense expense = baseExpense(group);
+    expense.setSplitMethod(SplitMethodEnum.ITEMIZED.getValue());
+    expense.setItems(items);
+    expense.setTotalAmount(items.stream().mapToLong(ExpenseItem::getPrice).sum());
+    return expense;
+  }
+
+  static Expense equalExpense(Group group) {
+    Expense expense = baseExpense(group);
+    expense.setSplitMethod(SplitMethodEnum.EQUAL.getValue());
+    expense.setSplitAmong(group.getUserId());
+    expense.setTotalAmount(123_457);
+    return expense;
+  }
+
+  static AddExpenseRequest itemizedRequest(Group group, List<ExpenseItem> items) {
+    AddExpenseRequest request = new AddExpenseRequest();
+    request.setGroupId(group.getId());
+    request.setDescription("Benchmark receipt");
+    request.setPaidBy(userId(0));
+    request.String(SplitMethodEnum.ITEMIZED);
+    request.setItems(items);
+    request.setTotalAmount(items.stream().mapToLong(ExpenseItem::getPrice).sum());
+    return request;
+  }
+
+  private static Expense baseExpense(Group group) {
+    Expense expense = new Expense();
+    expense.setId("expense-1");
+    expense.setGroupId(group.getId());
+    expense.setDescription("Benchmark receipt");
+    expense.setPaidBy(userId(0));
+    expense.setCreateAt(new Date(1_700_000_000_000L));
+    return expense;
+  }
+
+  private static String userId(int index) {
+    return String.format("%024x", index);
+  }
+}
@@ -0,0 +1,69 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JSON (de)serialisation of {@link AddExpenseRequest} and {@link Expense}, including the
+ * decimal to minor unit conversion of amounts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseJsonBenchmark {
+
+  @Param({"1", "100", "1000", "5000"})
+  public int itemCount;
+
+  private ObjectReader requestReader;
+
+  private ObjectWriter expenseWriter;
+
+  private byte[] requestJson;
+
+  private Expense expense;
+
+  @Setup
+  public void setUp() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    requestReader = objectMapper.readerFor(AddExpenseRequest.class);
+    expenseWriter = objectMapper.writerFor(Expense.class);
+
+    Group group = ExpenseFixtures.group(50);
+    List<ExpenseItem> items = ExpenseFixtures.items(group, itemCount);
+    requestJson = objectMapper.writeValueAsBytes(ExpenseFixtures.itemizedRequest(group, items));
+    expense = ExpenseFixtures.itemizedExpense(group, items);
+  }
+
+  @Benchmark
+  public AddExpenseRequest deserializeAddExpenseRequest() throws Exception {
+    return requestReader.readValue(requestJson);
+  }
+
+  @Benchmark
+  public byte[] serializeExpense() throws Exception {
+    return expenseWriter.writeValueAsBytes(expense);
+  }
+}
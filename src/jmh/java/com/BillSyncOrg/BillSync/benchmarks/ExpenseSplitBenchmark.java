@@ -0,0 +1,85 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.service.expenses.UtilExpenseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures expense validation and the debt split applied by {@code updateGroupDebts}
+ * across group sizes and receipt lengths.
+ * <p>
+ * The split is benchmarked through {@link UtilExpenseService#computeDebtDeltas}, which is the
+ * CPU-bound part of applying debts; the ledger write itself is a database round trip.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpenseSplitBenchmark {
+
+  @Param({"2", "20", "200", "500"})
+  public int groupSize;
+
+  @Param({"1", "100", "1000", "5000"})
+  public int itemCount;
+
+  private UtilExpenseService utilExpenseService;
+
+  private Group group;
+
+  private List<ExpenseItem> items;
+
+  private Expense itemizedExpense;
+
+  private Expense equalExpense;
+
+  @Setup
+  public void setUp() {
+    // Validation and splitting do not touch the ledger or the settlement cache.
+    utilExpenseService = new UtilExpenseService(null, null);
+    group = ExpenseFixtures.group(groupSize);
+    items = ExpenseFixtures.items(group, itemCount);
+    itemizedExpense = ExpenseFixtures.itemizedExpense(group, items);
+    equalExpense = ExpenseFixtures.equalExpense(group);
+  }
+
+  @Benchmark
+  public boolean validateItemizedExpense() throws Exception {
+    return utilExpenseService.validateItemizedExpense(items, group);
+  }
+
+  @Benchmark
+  public boolean validateEqualExpense() throws Exception {
+    return utilExpenseService.validateEqualExpense(group.getUserId(), group);
+  }
+
+  @Benchmark
+  public Map<String, Map<String, Long>> splitItemizedExpense() {
+    return utilExpenseService.computeDebtDeltas(itemizedExpense, new HashMap<>());
+  }
+
+  @Benchmark
+  public Map<String, Map<String, Long>> splitEqualExpense() {
+    return utilExpenseService.computeDebtDeltas(equalExpense, new HashMap<>());
+  }
+}
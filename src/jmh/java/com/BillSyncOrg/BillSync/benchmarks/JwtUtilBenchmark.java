@@ -0,0 +1,75 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of authenticating a bearer token.
+ * <p>
+ * {@code perCallParser} reproduces the previous behaviour of building a parser and deriving the
+ * key on every call; {@code prebuiltParser} uses the parser held by {@link JwtUtil} with caching
+ * disabled; {@code cachedClaims} is the default configuration for a client reusing its token.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtUtilBenchmark {
+
+  private static final String SECRET = "BenchmarkJwtSecretKeyThatIsLongEnoughForHs256!";
+
+  private JwtUtil uncachedJwtUtil;
+
+  private JwtUtil cachedJwtUtil;
+
+  private String token;
+
+  @Setup
+  public void setUp() throws Exception {
+    uncachedJwtUtil = new JwtUtil(SECRET, 0);
+    cachedJwtUtil = new JwtUtil(SECRET, 10_000);
+    token = cachedJwtUtil.generateToken("64f1c2a9e4b0a1b2c3d4e5f6", 0);
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public Claims perCallParser() {
+    return Jwts.parser()
+      .setSigningKey(SECRET.getBytes())
+      .parseClaimsJws(token)
+      .getBody();
+  }
+
+  @Benchmark
+  public Claims prebuiltParser() {
+    return uncachedJwtUtil.extractAllClaims(token);
+  }
+
+  @Benchmark
+  public Claims cachedClaims() {
+    return cachedJwtUtil.extractAllClaims(token);
+  }
+
+  @Benchmark
+  public String generateToken() throws Exception {
+    return cachedJwtUtil.generateToken("64f1c2a9e4b0a1b2c3d4e5f6", 0);
+  }
+}
@@ -0,0 +1,114 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test against a running instance, used to compare request handling on
+ * platform threads with the {@code virtual-threads} profile.
+ * <p>
+ * Each of {@code concurrency} clients runs on its own virtual thread and repeatedly sends
+ * {@code GET path} with the given bearer token until the duration has elapsed. The runner
+ * prints throughput, error count and latency percentiles.
+ * </p>
+ *
+ * <pre>
+ * java ... LoadTestRunner http://localhost:8080 &lt;token&gt; /api/users/me 5000 60
+ * </pre>
+ */
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      System.err.println(
+        "Usage: LoadTestRunner <baseUrl> <token> <path> [concurrency=5000] [seconds=60]");
+      System.exit(1);
+    }
+    URI uri = URI.create(args[0] + args[2]);
+    String token = args[1];
+    int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 5000;
+    long durationNanos = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 60)
+      .toNanos();
+
+    HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(10))
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+    HttpRequest request = HttpRequest.newBuilder(uri)
+      .header("Authorization", "Bearer " + token)
+      .timeout(Duration.ofSeconds(30))
+      .GET()
+      .build();
+
+    LongAdder errors = new LongAdder();
+    long deadline = System.nanoTime() + durationNanos;
+    List<Future<long[]>> clients = new ArrayList<>(concurrency);
+    long start = System.nanoTime();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        clients.add(executor.submit(() -> {
+          long[] latencies = new long[1024];
+          int count = 0;
+          while (System.nanoTime() < deadline) {
+            long sent = System.nanoTime();
+            try {
+              HttpResponse<Void> response =
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+              if (response.statusCode() >= 400) {
+                errors.increment();
+              }
+            } catch (Exception e) {
+              errors.increment();
+            }
+            if (count == latencies.length) {
+              latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - sent;
+          }
+          return Arrays.copyOf(latencies, count);
+        }));
+      }
+    }
+
+    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+    long[] all = clients.stream()
+      .map(LoadTestRunner::join)
+      .flatMapToLong(Arrays::stream)
+      .sorted()
+      .toArray();
+
+    System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n",
+      all.length, errors.sum(), all.length / elapsedSeconds);
+    System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+      percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+      percentile(all, 1.0));
+  }
+
+  private static long[] join(Future<long[]> future) {
+    try {
+      return future.get();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static double percentile(long[] sortedNanos, double quantile) {
+    if (sortedNanos.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(quantile * sortedNanos.length) - 1);
+    return sortedNanos[Math.max(0, index)] / 1e6;
+  }
+}
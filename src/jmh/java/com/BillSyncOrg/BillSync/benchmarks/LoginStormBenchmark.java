@@ -0,0 +1,109 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.service.expenses.UtilExpenseService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.PasswordHashingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a login storm: many threads verifying passwords while a few threads serve expense
+ * requests, comparing BCrypt on the request threads ({@code inline}) with BCrypt on the bounded
+ * hashing pool ({@code pooled}).
+ * <p>
+ * Sample-time mode reports latency percentiles per method, so the p99 of {@code login*} and of
+ * {@code expense*} can be compared between the two groups. In the pooled group, logins rejected
+ * because the queue is full return immediately, as they would with a 503.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class LoginStormBenchmark {
+
+  @Param({"10"})
+  public int bcryptStrength;
+
+  @Param({"2"})
+  public int hashingThreads;
+
+  private BCryptPasswordEncoder passwordEncoder;
+
+  private PasswordHashingService passwordHashingService;
+
+  private String passwordHash;
+
+  private UtilExpenseService utilExpenseService;
+
+  private Expense expense;
+
+  @Setup
+  public void setUp() {
+    passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+    passwordHashingService = new PasswordHashingService(passwordEncoder,
+      PasswordHashingService.newExecutor(hashingThreads, 16), 5000);
+    passwordHash = passwordEncoder.encode("correct horse battery staple");
+
+    utilExpenseService = new UtilExpenseService(null, null);
+    com.BillSyncOrg.BillSync.model.Group group = ExpenseFixtures.group(50);
+    expense = ExpenseFixtures.itemizedExpense(group, ExpenseFixtures.items(group, 1000));
+  }
+
+  @TearDown
+  public void tearDown() {
+    passwordHashingService.shutdown();
+  }
+
+  @Benchmark
+  @Group("inline")
+  @GroupThreads(16)
+  public boolean loginInline() {
+    return passwordEncoder.matches("correct horse battery staple", passwordHash);
+  }
+
+  @Benchmark
+  @Group("inline")
+  @GroupThreads(2)
+  public Map<String, Map<String, Long>> expenseInline() {
+    return utilExpenseService.computeDebtDeltas(expense, new HashMap<>());
+  }
+
+  @Benchmark
+  @Group("pooled")
+  @GroupThreads(16)
+  public boolean loginPooled() {
+    try {
+      return passwordHashingService.matches("correct horse battery staple", passwordHash);
+    } catch (BillSyncServerException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  @Group("pooled")
+  @GroupThreads(2)
+  public Map<String, Map<String, Long>> expensePooled() {
+    return utilExpenseService.computeDebtDeltas(expense, new HashMap<>());
+  }
+}
@@ -0,0 +1,61 @@
+package com.BillSyncOrg.BillSync.benchmarks;
+
+import com.BillSyncOrg.BillSync.dto.userRecords.UserSummary;
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.service.users.UserSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typeahead lookups in {@link UserSearchIndex} for short and long prefixes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSearchIndexBenchmark {
+
+  private static final String[] FIRST_NAMES =
+    {"alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi", "ivan", "judy"};
+
+  @Param({"10000", "1000000"})
+  public int userCount;
+
+  @Param({"a", "al", "alice 12", "98765"})
+  public String prefix;
+
+  private UserSearchIndex userSearchIndex;
+
+  @Setup
+  public void setUp() {
+    // The database is only read by rebuild(), which is not benchmarked.
+    userSearchIndex = new UserSearchIndex(null);
+    for (int i = 0; i < userCount; i++) {
+      User user = new User();
+      user.setId(String.format("%024x", i));
+      user.setName(FIRST_NAMES[i % FIRST_NAMES.length] + " " + i);
+      user.setEmail("user" + i + "@example.com");
+      user.setPhoneNumber(String.format("%010d", 9876500000L + i));
+      userSearchIndex.add(user);
+    }
+  }
+
+  @Benchmark
+  public List<UserSummary> search() {
+    return userSearchIndex.search(prefix, 20);
+  }
+}
@@ -0,0 +1,22 @@
+package com.BillSyncOrg.BillSync.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Configures the BCrypt password encoder with a configurable cost.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+  /**
+   * BCrypt encoder with the configured cost (log2 of the number of rounds).
+   */
+  @Bean
+  public BCryptPasswordEncoder passwordEncoder(
+    @Value("${security.bcrypt.strength:10}") int strength) {
+    return new BCryptPasswordEncoder(strength);
+  }
+}
@@ -0,0 +1,12 @@
+package com.BillSyncOrg.BillSync.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the nightly ledger reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -8,6 +8,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 
 @Configuration
 @EnableWebSecurity
@@ -25,6 +26,10 @@ public class SecurityConfig {
 
   /**
    * Configures the Spring Security filter chain.
+   * <p>
+   * The security context is loaded from the request attribute written by
+   * {@link JwtAuthenticationFilter}, so ASYNC dispatches of the same request stay authenticated.
+   * </p>
    *
    * @param http the HttpSecurity object to customize security settings
    * @return the security filter chain
@@ -35,6 +40,8 @@ public class SecurityConfig {
     http
       .csrf(csrf -> csrf.disable()) // Disable CSRF for testing POST endpoints like signup
       .cors(cors -> cors.configurationSource(corsConfig.corsConfigurationSource()))
+      .securityContext(context -> context
+        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
       .authorizeHttpRequests(auth -> auth
         .requestMatchers("/api/users/signup", "/api/users/login").permitAll()
         .anyRequest().authenticated()
@@ -2,39 +2,69 @@ package com.BillSyncOrg.BillSync.context;
 
 
 /**
- * RequestContext is a thread-local storage utility class that holds contextual information
- * for the current HTTP request, such as the user ID extracted from a JWT token.
+ * RequestContext holds contextual information for the current HTTP request, such as the user
+ * ID extracted from a JWT token.
  * <p>
  * This allows for sharing request-specific user information across multiple layers
  * of the application (e.g., services, filters) without passing it explicitly.
+ * </p>
+ *
+ * <p>
+ * Values are bound for a scope rather than set and cleared: {@link #withUserId(String)} binds
+ * the user ID until the returned {@link Scope} is closed, which restores the previous value.
+ * Used with try-with-resources this gives the same guarantees as {@code ScopedValue} (still a
+ * preview API on Java 21): the binding never outlives the request, even when the request
+ * thread is a pooled platform thread or a virtual thread, and nested scopes cannot clobber
+ * each other. Work handed to other threads does not see the binding.
+ * </p>
  */
 public class RequestContext {
 
   private static final ThreadLocal<String> userIdHolder = new ThreadLocal<>();
 
+  private RequestContext() throws IllegalAccessException {
+    throw new IllegalAccessException("Cannot instantiate RequestContext class");
+  }
+
   /**
-   * Sets the current request's user ID.
+   * Binds the current request's user ID until the returned scope is closed.
    *
    * @param userId the user ID extracted from the JWT token.
+   * @return the scope, to be closed with try-with-resources.
    */
-  public static void setUserId(String userId) {
+  public static Scope withUserId(String userId) {
+    Scope scope = new Scope(userIdHolder.get());
     userIdHolder.set(userId);
+    return scope;
   }
 
   /**
    * Gets the current request's user ID.
    *
-   * @return the user ID stored in the current thread, or null if not set.
+   * @return the user ID bound for the current scope, or null if not set.
    */
   public static String getUserId() {
     return userIdHolder.get();
   }
 
   /**
-   * Clears the user ID from the current thread to prevent data leaks or reuse
-   * in thread pools.
+   * A binding made by {@link #withUserId(String)}. Closing it restores the previous value.
    */
-  public static void clear() {
-    userIdHolder.remove();
+  public static final class Scope implements AutoCloseable {
+
+    private final String previousUserId;
+
+    private Scope(String previousUserId) {
+      this.previousUserId = previousUserId;
+    }
+
+    @Override
+    public void close() {
+      if (previousUserId == null) {
+        userIdHolder.remove();
+      } else {
+        userIdHolder.set(previousUserId);
+      }
+    }
   }
 }
@@ -0,0 +1,63 @@
+package com.BillSyncOrg.BillSync.controller.admin;
+
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.service.admin.AdminAccessService;
+import com.BillSyncOrg.BillSync.service.balances.LedgerReconciliationService;
+import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the ledger reconciliation job to administrators.
+ *
+ * <p>Endpoints:</p>
+ * <ul>
+ *   <li>POST /api/admin/reconciliation - Reconcile one group, or all groups if no
+ *   {@code groupId} is given</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class ReconciliationController {
+
+  private final LedgerReconciliationService reconciliationService;
+
+  private final AdminAccessService adminAccessService;
+
+  @Autowired
+  public ReconciliationController(LedgerReconciliationService reconciliationService,
+                                  AdminAccessService adminAccessService) {
+    this.reconciliationService = reconciliationService;
+    this.adminAccessService = adminAccessService;
+  }
+
+  /**
+   * Replays expenses to verify the debt ledger and optionally repairs it.
+   *
+   * @param groupId the group to reconcile; omit to reconcile every group
+   * @param repair  whether to correct ledgers that do not match their expenses
+   * @return a {@link ResponseEntity} with the reconciliation result
+   * @throws BillSyncClientException if the caller is not an administrator or a run is in progress
+   * @throws BillSyncServerException if the run is interrupted
+   */
+  @PostMapping("/reconciliation")
+  public ResponseEntity<Object> reconcile(@RequestParam(required = false) String groupId,
+                                          @RequestParam(defaultValue = "false") boolean repair)
+    throws BillSyncClientException, BillSyncServerException {
+    adminAccessService.checkAdmin();
+    Object result = groupId != null
+      ? reconciliationService.reconcileGroup(groupId, repair)
+      : reconciliationService.reconcileAllGroups(repair);
+    return ResponseGenerator.builder()
+      .body(result)
+      .status(HttpStatusCodeEnum.OK)
+      .message("Reconciliation completed!")
+      .build();
+  }
+}
@@ -0,0 +1,52 @@
+package com.BillSyncOrg.BillSync.controller.admin;
+
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.service.admin.AdminAccessService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing authentication cache statistics to administrators.
+ *
+ * <p>Endpoints:</p>
+ * <ul>
+ *   <li>GET /api/admin/user-session-cache - Hit and miss counters of the user session cache</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class UserSessionCacheController {
+
+  private final UserSessionCache userSessionCache;
+
+  private final AdminAccessService adminAccessService;
+
+  @Autowired
+  public UserSessionCacheController(UserSessionCache userSessionCache,
+                                    AdminAccessService adminAccessService) {
+    this.userSessionCache = userSessionCache;
+    this.adminAccessService = adminAccessService;
+  }
+
+  /**
+   * Returns the hit and miss counters of the user session cache since startup.
+   *
+   * @return a {@link ResponseEntity} with the cache statistics
+   * @throws BillSyncClientException if the caller is not an administrator
+   */
+  @GetMapping("/user-session-cache")
+  public ResponseEntity<Object> getStats() throws BillSyncClientException {
+    adminAccessService.checkAdmin();
+    return ResponseGenerator.builder()
+      .body(userSessionCache.getStats())
+      .status(HttpStatusCodeEnum.OK)
+      .message("Successful!")
+      .build();
+  }
+}
@@ -1,19 +1,33 @@
 package com.BillSyncOrg.BillSync.controller.expenses;
 
 import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.BulkAddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.BulkAddExpenseResponse;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpensePage;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.model.Expense;
 import com.BillSyncOrg.BillSync.service.expenses.AddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.BulkAddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseExportService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseHistoryService;
 import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.enums.ExportFormatEnum;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -21,9 +35,91 @@ public class ExpenseController {
 
   private final AddExpenseService addExpenseService;
 
+  private final BulkAddExpenseService bulkAddExpenseService;
+
+  private final ExpenseHistoryService expenseHistoryService;
+
+  private final ExpenseExportService expenseExportService;
+
+  private final ConditionalResponseCache responseCache;
+
   @Autowired
-  public ExpenseController(AddExpenseService addExpenseService) {
+  public ExpenseController(AddExpenseService addExpenseService,
+                           BulkAddExpenseService bulkAddExpenseService,
+                           ExpenseHistoryService expenseHistoryService,
+                           ExpenseExportService expenseExportService,
+                           ConditionalResponseCache responseCache) {
     this.addExpenseService = addExpenseService;
+    this.bulkAddExpenseService = bulkAddExpenseService;
+    this.expenseHistoryService = expenseHistoryService;
+    this.expenseExportService = expenseExportService;
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * List the expenses of a group, newest first, one page at a time.
+   * <p>
+   * Pages without names carry an {@code ETag}; sending it back in {@code If-None-Match} returns
+   * {@code 304 Not Modified} until an expense is added to the group.
+   * </p>
+   *
+   * @param groupId      the ID of the group
+   * @param after        the {@code nextCursor} of the previous page; omit for the first page
+   * @param limit        the page size; omit for the default
+   * @param includeNames whether to add the names of every user referenced by the page
+   * @param ifNoneMatch  the ETag of the copy the client already has, if any
+   * @return ResponseEntity with the page of expenses and the cursor of the next page
+   * @throws BillSyncClientException if the group does not exist or the cursor or limit is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  @GetMapping
+  public ResponseEntity<Object> getExpenses(@RequestParam String groupId,
+                                            @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(defaultValue = "false")
+                                            boolean includeNames,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                              required = false) String ifNoneMatch)
+    throws BillSyncClientException, BillSyncServerException {
+    ConditionalResponseCache.Loader loader = () -> {
+      ExpensePage page = expenseHistoryService.getExpenses(groupId, after, limit, includeNames);
+      return ResponseGenerator.builder()
+        .body(page)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build();
+    };
+    // Names are not part of the group's version, so pages with names are always rebuilt.
+    if (includeNames) {
+      return loader.load();
+    }
+    return responseCache.respond(ConditionalResponseCache.group(groupId),
+      "expenses?after=" + after + "&limit=" + limit, ifNoneMatch, loader);
+  }
+
+  /**
+   * Download the full expense history of a group, oldest first.
+   * <p>
+   * The file is streamed straight from a database cursor, so it is not wrapped in the standard
+   * response envelope and memory use does not depend on the size of the history.
+   * </p>
+   *
+   * @param groupId the ID of the group
+   * @param format  {@code ndjson} (default) or {@code csv}
+   * @return ResponseEntity streaming the expenses as a file attachment
+   * @throws BillSyncClientException if the group does not exist or the format is not supported
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportExpenses(
+    @RequestParam String groupId,
+    @RequestParam(defaultValue = "ndjson") String format) throws BillSyncClientException {
+    ExportFormatEnum exportFormat = expenseExportService.prepareExport(groupId, format);
+    StreamingResponseBody body = out -> expenseExportService.export(groupId, exportFormat, out);
+    return ResponseEntity.ok()
+      .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+      .header(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"expenses-" + groupId + "." + exportFormat.getValue() + "\"")
+      .body(body);
   }
 
   /**
@@ -45,4 +141,41 @@ public class ExpenseController {
       .build();
   }
 
+  /**
+   * Import many expenses at once, e.g. from a bank or card statement.
+   * <p>
+   * All expenses are validated before anything is stored. Each referenced group is loaded once
+   * and receives a single combined debt update.
+   * </p>
+   *
+   * <p>
+   * If some expenses could not be stored, the response has status {@code 207 Multi-Status} and
+   * lists their positions in {@code failedIndexes}; the other expenses are kept.
+   * </p>
+   *
+   * @param request the expenses to import
+   * @return ResponseEntity with the IDs of the stored expenses, {@code 200} if all were stored
+   *         and {@code 207} otherwise
+   * @throws BillSyncClientException if the request is empty, too large or any expense is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  @PostMapping("/bulk-add-expense")
+  public ResponseEntity<Object> bulkAddExpense(@RequestBody BulkAddExpenseRequest request)
+    throws BillSyncClientException, BillSyncServerException {
+    BulkAddExpenseResponse response = bulkAddExpenseService.addExpenses(request);
+    if (!response.getFailedIndexes().isEmpty()) {
+      return ResponseGenerator.builder()
+        .body(response)
+        .status(HttpStatusCodeEnum.MULTI_STATUS)
+        .message("Imported " + response.getInsertedCount() + " of "
+          + response.getExpenseIds().size() + " expenses, see failedIndexes for the rest")
+        .build();
+    }
+    return ResponseGenerator.builder()
+      .body(response)
+      .status(HttpStatusCodeEnum.OK)
+      .message("Expenses imported successfully!")
+      .build();
+  }
+
 }
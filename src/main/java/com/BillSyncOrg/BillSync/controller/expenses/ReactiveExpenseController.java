@@ -0,0 +1,78 @@
+package com.BillSyncOrg.BillSync.controller.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.service.expenses.ReactiveExpenseService;
+import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking expense endpoints, enabled with the {@code reactive} profile.
+ * <p>
+ * Handlers return a {@link Mono}, so the request thread is released while MongoDB is queried
+ * and the response is written when the pipeline completes.
+ * </p>
+ *
+ * <p>Endpoints:</p>
+ * <ul>
+ *   <li>GET /api/reactive/expenses - List the expenses of a group, one page at a time</li>
+ *   <li>POST /api/reactive/expenses/add-expense - Add an expense to a group</li>
+ * </ul>
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/reactive/expenses")
+public class ReactiveExpenseController {
+
+  private final ReactiveExpenseService reactiveExpenseService;
+
+  @Autowired
+  public ReactiveExpenseController(ReactiveExpenseService reactiveExpenseService) {
+    this.reactiveExpenseService = reactiveExpenseService;
+  }
+
+  /**
+   * List the expenses of a group, newest first, one page at a time.
+   *
+   * @param groupId the ID of the group
+   * @param after   the {@code nextCursor} of the previous page; omit for the first page
+   * @param limit   the page size; omit for the default
+   * @return the page of expenses and the cursor of the next page
+   */
+  @GetMapping
+  public Mono<ResponseEntity<Object>> getExpenses(@RequestParam String groupId,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) Integer limit) {
+    return reactiveExpenseService.getExpenses(groupId, after, limit)
+      .map(page -> ResponseGenerator.builder()
+        .body(page)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build());
+  }
+
+  /**
+   * Add an expense to a group.
+   *
+   * @param request the expense to add
+   * @return the saved expense
+   */
+  @PostMapping("/add-expense")
+  public Mono<ResponseEntity<Object>> addExpense(@RequestBody AddExpenseRequest request) {
+    return reactiveExpenseService.addExpense(request)
+      .map(expense -> ResponseGenerator.builder()
+        .body(expense)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Expense added successfully!")
+        .build());
+  }
+}
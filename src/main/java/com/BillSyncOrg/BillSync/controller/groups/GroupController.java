@@ -1,18 +1,25 @@
 package com.BillSyncOrg.BillSync.controller.groups;
 
 import com.BillSyncOrg.BillSync.dto.groupRecords.CreateGroupRequest;
+import com.BillSyncOrg.BillSync.dto.groupRecords.SettlementTransfer;
 import com.BillSyncOrg.BillSync.dto.groupRecords.UpdateGroupRequest;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.model.Group;
 import com.BillSyncOrg.BillSync.service.group.CreateGroupService;
+import com.BillSyncOrg.BillSync.service.group.MyGroupsService;
+import com.BillSyncOrg.BillSync.service.group.SettlementService;
 import com.BillSyncOrg.BillSync.service.group.UpdateGroupService;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import com.BillSyncOrg.BillSync.util.ResponseGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for handling group-related endpoints.
  *
@@ -22,6 +29,9 @@ import org.springframework.web.bind.annotation.*;
  * <p>Endpoints:</p>
  * <ul>
  *   <li>POST /api/groups/create-group - Create a new group</li>
+ *   <li>POST /api/groups/update-group - Update an existing group</li>
+ *   <li>GET /api/groups/{id}/settlement - Minimal list of payments to settle a group</li>
+ *   <li>GET /api/groups/mine - Groups of the current user with the user's net balance</li>
  * </ul>
  */
 @RestController
@@ -30,11 +40,19 @@ public class GroupController {
 
   private final CreateGroupService createGroupService;
   private final UpdateGroupService updateGroupService;
+  private final SettlementService settlementService;
+  private final MyGroupsService myGroupsService;
+  private final ConditionalResponseCache responseCache;
 
   @Autowired
-  public GroupController(CreateGroupService createGroupService, UpdateGroupService updateGroupService) {
+  public GroupController(CreateGroupService createGroupService, UpdateGroupService updateGroupService,
+                         SettlementService settlementService, MyGroupsService myGroupsService,
+                         ConditionalResponseCache responseCache) {
     this.createGroupService = createGroupService;
     this.updateGroupService = updateGroupService;
+    this.settlementService = settlementService;
+    this.myGroupsService = myGroupsService;
+    this.responseCache = responseCache;
   }
 
   /**
@@ -90,4 +108,71 @@ public class GroupController {
       .build();
   }
 
+  /**
+   * Returns the minimal list of payments that settles all debts of a group.
+   * <p>
+   * Each member's debts are netted into a single balance before members are matched, so the
+   * result has at most one transfer fewer than the number of members with a non-zero balance.
+   * </p>
+   *
+   * <p>
+   * Responses without names carry an {@code ETag}; sending it back in {@code If-None-Match}
+   * returns {@code 304 Not Modified} until an expense is added to the group.
+   * </p>
+   *
+   * @param id           the ID of the group
+   * @param includeNames whether to add the names of both members to every transfer
+   * @param ifNoneMatch  the ETag of the copy the client already has, if any
+   * @return a {@link ResponseEntity} with the list of suggested transfers
+   * @throws BillSyncClientException if the group does not exist
+   * @throws BillSyncServerException if the names cannot be loaded
+   */
+  @GetMapping("/{id}/settlement")
+  public ResponseEntity<Object> getSettlement(
+    @PathVariable String id,
+    @RequestParam(defaultValue = "false") boolean includeNames,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) throws BillSyncClientException, BillSyncServerException {
+    if (includeNames) {
+      List<SettlementTransfer> transfers =
+        settlementService.withNames(settlementService.getSettlement(id));
+      return ResponseGenerator.builder()
+        .body(transfers)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build();
+    }
+    return responseCache.respond(ConditionalResponseCache.group(id), "settlement",
+      ifNoneMatch, () -> ResponseGenerator.builder()
+        .body(settlementService.getSettlement(id))
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build());
+  }
+
+  /**
+   * Lists the groups of the current user, one page at a time, with the user's net balance in
+   * each group.
+   * <p>
+   * A positive balance means the rest of the group owes the user money. Pass the
+   * {@code nextCursor} of a page as {@code after} to fetch the next one.
+   * </p>
+   *
+   * @param after the {@code nextCursor} of the previous page; omit for the first page
+   * @param limit the page size; omit for the default
+   * @return a {@link ResponseEntity} with the page of groups and the cursor of the next page
+   * @throws BillSyncClientException if the cursor or limit is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  @GetMapping("/mine")
+  public ResponseEntity<Object> getMyGroups(@RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer limit)
+    throws BillSyncClientException, BillSyncServerException {
+    return ResponseGenerator.builder()
+      .body(myGroupsService.getMyGroups(after, limit))
+      .status(HttpStatusCodeEnum.OK)
+      .message("Successful!")
+      .build();
+  }
+
 }
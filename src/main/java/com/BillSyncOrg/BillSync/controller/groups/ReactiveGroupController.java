@@ -0,0 +1,72 @@
+package com.BillSyncOrg.BillSync.controller.groups;
+
+import com.BillSyncOrg.BillSync.dto.groupRecords.CreateGroupRequest;
+import com.BillSyncOrg.BillSync.service.group.ReactiveGroupService;
+import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking group endpoints, enabled with the {@code reactive} profile.
+ *
+ * <p>Endpoints:</p>
+ * <ul>
+ *   <li>POST /api/reactive/groups/create-group - Create a new group</li>
+ *   <li>GET /api/reactive/groups/{id}/settlement - Minimal list of payments to settle a
+ *   group</li>
+ * </ul>
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/reactive/groups")
+public class ReactiveGroupController {
+
+  private final ReactiveGroupService reactiveGroupService;
+
+  @Autowired
+  public ReactiveGroupController(ReactiveGroupService reactiveGroupService) {
+    this.reactiveGroupService = reactiveGroupService;
+  }
+
+  /**
+   * Creates a new group with the given details.
+   *
+   * @param createGroupRequest DTO containing group name and optional user IDs.
+   * @return the created group
+   */
+  @PostMapping("/create-group")
+  public Mono<ResponseEntity<Object>> createGroup(
+    @RequestBody CreateGroupRequest createGroupRequest) {
+    return reactiveGroupService.createGroup(createGroupRequest)
+      .map(group -> ResponseGenerator.builder()
+        .body(group)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build());
+  }
+
+  /**
+   * Returns the minimal list of payments that settles all debts of a group.
+   *
+   * @param id the ID of the group
+   * @return the list of suggested transfers
+   */
+  @GetMapping("/{id}/settlement")
+  public Mono<ResponseEntity<Object>> getSettlement(@PathVariable String id) {
+    return reactiveGroupService.getSettlement(id)
+      .map(transfers -> ResponseGenerator.builder()
+        .body(transfers)
+        .status(HttpStatusCodeEnum.OK)
+        .message("Successful!")
+        .build());
+  }
+}
@@ -47,12 +47,15 @@ public class UserController {
    * Accepts a validated request body and delegates to the service for processing.
    * </p>
    *
-   * @param request the validated sign-up request containing email, phone, and password
+   * @param request     the validated sign-up request containing email, phone, and password
+   * @param httpRequest the HTTP request, used for the client address
    * @return a {@link ResponseEntity} containing the created user
    */
   @PostMapping("/signup")
-  public ResponseEntity<Object> signUp(@Valid @RequestBody SignupRequest request) throws BillSyncClientException, BillSyncServerException {
-    User user = userService.registerUser(request);
+  public ResponseEntity<Object> signUp(@Valid @RequestBody SignupRequest request,
+                                       HttpServletRequest httpRequest)
+    throws BillSyncClientException, BillSyncServerException {
+    User user = userService.registerUser(request, httpRequest.getRemoteAddr());
     return ResponseGenerator.builder().body(user).status(HttpStatusCodeEnum.CREATED).message("Account created successfully!").build();
   }
 
@@ -62,17 +65,20 @@ public class UserController {
    * Accepts a validated request body and delegates to the service for processing.
    * </p>
    *
-   * @param request the validated sign-in request containing email or phone, and password
+   * @param request     the validated sign-in request containing email or phone, and password
+   * @param httpRequest the HTTP request, used for the client address
    * @return a {@link ResponseEntity} containing the generated jwt.
    */
   @PostMapping("/login")
-  public ResponseEntity<Object> login(@Valid @RequestBody SignInRequest request) throws BillSyncClientException, BillSyncServerException {
-    SignInResponse response = userService.SignInUser(request);
+  public ResponseEntity<Object> login(@Valid @RequestBody SignInRequest request,
+                                      HttpServletRequest httpRequest)
+    throws BillSyncClientException, BillSyncServerException {
+    SignInResponse response = userService.SignInUser(request, httpRequest.getRemoteAddr());
     return ResponseGenerator.builder().body(response).status(HttpStatusCodeEnum.OK).message("Login successfully!").build();
   }
 
   /**
-   * Logs out the user by blacklisting the JWT token provided in the Authorization header.
+   * Logs out the user everywhere, revoking every token issued to them.
    *
    * @param request the HTTP request containing the token.
    * @return a ResponseEntity indicating logout success or failure.
@@ -1,19 +1,24 @@
 package com.BillSyncOrg.BillSync.controller.users;
 
 import com.BillSyncOrg.BillSync.dto.userRecords.FindUserRequest;
+import com.BillSyncOrg.BillSync.dto.userRecords.ResolveNamesRequest;
+import com.BillSyncOrg.BillSync.dto.userRecords.UserPage;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.model.User;
 import com.BillSyncOrg.BillSync.projection.allUsers.UserIDNameProjection;
 import com.BillSyncOrg.BillSync.repository.UserRepository;
 import com.BillSyncOrg.BillSync.service.users.AllUsersService;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import com.BillSyncOrg.BillSync.util.ResponseGenerator;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller that exposes HTTP endpoints for retrieving user records from the MongoDB database.
@@ -31,7 +36,7 @@ import java.util.List;
  *
  * <p><b>Example Request:</b></p>
  * <pre>
- * GET /api/user-records/all-users
+ * GET /api/user-records/all-users?limit=2
  * </pre>
  *
  * <p><b>Example JSON Response:</b></p>
@@ -39,18 +44,13 @@ import java.util.List;
  * {
  *   "status": "OK",
  *   "message": "successful!",
- *   "body": [
- *     {
- *       "id": "64f1a8b7c1",
- *       "name": "Alice",
- *       "email": "alice@example.com"
- *     },
- *     {
- *       "id": "64f1a8b8d2",
- *       "name": "Bob",
- *       "email": "bob@example.com"
- *     }
- *   ]
+ *   "body": {
+ *     "users": [
+ *       { "id": "64f1a8b7c1", "name": "Alice" },
+ *       { "id": "64f1a8b8d2", "name": "Bob" }
+ *     ],
+ *     "nextCursor": "64f1a8b8d2"
+ *   }
  * }
  * </pre>
  *
@@ -66,41 +66,139 @@ public class AllUsersController {
 
   private final AllUsersService allUsersService;
 
+  private final ConditionalResponseCache responseCache;
+
   /**
    * Constructs a new {@code AllUsersController} with the specified {@link AllUsersService}.
    *
    * @param allUsersService the service used to retrieve user records from the database
+   * @param responseCache   the cache answering conditional and repeated directory reads
    */
   @Autowired
-  public AllUsersController(AllUsersService allUsersService) {
+  public AllUsersController(AllUsersService allUsersService,
+                            ConditionalResponseCache responseCache) {
     this.allUsersService = allUsersService;
+    this.responseCache = responseCache;
   }
 
   /**
-   * Retrieves all user records from the MongoDB database and returns them in a standardized API response.
+   * Retrieves one page of the user directory, ordered by user ID, in a standardized API response.
+   * <p>
+   * Pass the {@code nextCursor} of a page as {@code after} to fetch the next one. Each page is
+   * a bounded index scan, so response time does not grow with the number of users.
+   * </p>
+   *
    * <p>
-   * This method delegates the data retrieval task to the {@link AllUsersService#getAllUsers()} method.
-   * The resulting list of {@link User} entities is wrapped inside a custom response object using
-   * the {@link ResponseGenerator} builder, ensuring a consistent response structure across endpoints.
+   * Responses carry an {@code ETag}. Sending it back in {@code If-None-Match} returns
+   * {@code 304 Not Modified} without reading the directory until a user signs up or is deleted.
    * </p>
    *
    * <p><b>Response:</b></p>
    * <ul>
    *   <li>{@code status} - HTTP status code represented by {@link HttpStatusCodeEnum}</li>
    *   <li>{@code message} - A human-readable message indicating the operation's result</li>
-   *   <li>{@code body} - The list of all {@link User} objects retrieved from the database</li>
+   *   <li>{@code body} - A {@link UserPage} with the IDs and names of the users and the cursor
+   *   of the next page</li>
    * </ul>
    *
-   * @return a {@link ResponseEntity} containing a standardized API response with all user records
+   * @param after       the {@code nextCursor} of the previous page; omit for the first page
+   * @param limit       the page size; omit for the default
+   * @param ifNoneMatch the ETag of the copy the client already has, if any
+   * @return a {@link ResponseEntity} containing a standardized API response with the page
+   * @throws BillSyncClientException if the cursor or limit is invalid
    * @throws BillSyncServerException if an error occurs while retrieving the user records
    */
   @GetMapping("/all-users")
-  public ResponseEntity<Object> getAllUserRecords() throws BillSyncServerException {
-    List<UserIDNameProjection> users = allUsersService.getAllUsers();
+  public ResponseEntity<Object> getAllUserRecords(@RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                    required = false) String ifNoneMatch)
+    throws BillSyncClientException, BillSyncServerException {
+    return responseCache.respond(ConditionalResponseCache.USERS,
+      "all-users?after=" + after + "&limit=" + limit, ifNoneMatch, () -> {
+        UserPage users = allUsersService.getAllUsers(after, limit);
+        return ResponseGenerator.builder()
+          .body(users)
+          .status(HttpStatusCodeEnum.OK)
+          .message("successful!")
+          .build();
+      });
+  }
+
+  /**
+   * Streams the whole user directory, ordered by user ID, as newline-delimited JSON.
+   * <p>
+   * Users are written straight from a database cursor, so the response is not wrapped in the
+   * standard envelope and memory use does not depend on the number of users.
+   * </p>
+   *
+   * @return a {@link ResponseEntity} streaming one {@code {"id", "name"}} object per line
+   */
+  @GetMapping("/all-users/stream")
+  public ResponseEntity<StreamingResponseBody> streamAllUserRecords() {
+    StreamingResponseBody body = allUsersService::streamAllUsers;
+    return ResponseEntity.ok()
+      .contentType(MediaType.parseMediaType("application/x-ndjson"))
+      .body(body);
+  }
+
+  /**
+   * Typeahead search over user names, emails and phone numbers.
+   * <p>
+   * Returns the users whose name, any word of their name, email or phone number starts with
+   * {@code q}, ignoring case. Results come from an in-memory index, so this endpoint can be
+   * called on every keystroke.
+   * </p>
+   *
+   * <p><b>Example Request:</b></p>
+   * <pre>
+   * GET /api/user-records/search?q=ali&amp;limit=5
+   * </pre>
+   *
+   * @param q     the text typed so far
+   * @param limit the maximum number of results; omit for the maximum allowed
+   * @return a {@link ResponseEntity} with the matching users' IDs and names
+   * @throws BillSyncClientException if the query is too short or the limit is invalid
+   */
+  @GetMapping("/search")
+  public ResponseEntity<Object> searchUsers(@RequestParam String q,
+                                            @RequestParam(required = false) Integer limit)
+    throws BillSyncClientException {
+    return ResponseGenerator.builder()
+      .body(allUsersService.searchUsers(q, limit))
+      .status(HttpStatusCodeEnum.OK)
+      .message("Successful!")
+      .build();
+  }
+
+  /**
+   * Resolves a batch of user IDs to names.
+   * <p>
+   * Meant for clients that already hold user IDs, e.g. from expenses or settlements, and need
+   * to display them. Unknown IDs are left out of the result.
+   * </p>
+   *
+   * <p><b>Example Request:</b></p>
+   * <pre>
+   * POST /api/user-records/resolve-names
+   * {
+   *   "userIds": ["64f1a8b7c1", "64f1a8b7c2"]
+   * }
+   * </pre>
+   *
+   * @param resolveNamesRequest the IDs to resolve
+   * @return a {@link ResponseEntity} with the IDs and names of the known users
+   * @throws BillSyncClientException if no IDs or too many IDs are given
+   * @throws BillSyncServerException if the names cannot be loaded
+   */
+  @PostMapping("/resolve-names")
+  public ResponseEntity<Object> resolveNames(
+    @Valid @RequestBody ResolveNamesRequest resolveNamesRequest
+  ) throws BillSyncClientException, BillSyncServerException {
     return ResponseGenerator.builder()
-      .body(users)
+      .body(allUsersService.resolveNames(resolveNamesRequest))
       .status(HttpStatusCodeEnum.OK)
-      .message("successful!")
+      .message("Successful!")
       .build();
   }
 
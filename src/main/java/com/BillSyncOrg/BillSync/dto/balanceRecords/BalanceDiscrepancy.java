@@ -0,0 +1,50 @@
+package com.BillSyncOrg.BillSync.dto.balanceRecords;
+
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A single ledger entry whose stored amount differs from the amount obtained by replaying
+ * all expenses of the group.
+ */
+public class BalanceDiscrepancy {
+
+  private final String debtor;
+
+  private final String creditor;
+
+  /**
+   * The amount derived from the expenses, in minor units.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  private final long expected;
+
+  /**
+   * The amount currently stored in the ledger, in minor units.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  private final long stored;
+
+  public BalanceDiscrepancy(String debtor, String creditor, long expected, long stored) {
+    this.debtor = debtor;
+    this.creditor = creditor;
+    this.expected = expected;
+    this.stored = stored;
+  }
+
+  public String getDebtor() {
+    return debtor;
+  }
+
+  public String getCreditor() {
+    return creditor;
+  }
+
+  public long getExpected() {
+    return expected;
+  }
+
+  public long getStored() {
+    return stored;
+  }
+}
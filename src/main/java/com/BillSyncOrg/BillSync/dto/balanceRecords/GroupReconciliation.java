@@ -0,0 +1,55 @@
+package com.BillSyncOrg.BillSync.dto.balanceRecords;
+
+import java.util.List;
+
+/**
+ * Result of reconciling the debt ledger of a single group against its expenses.
+ */
+public class GroupReconciliation {
+
+  private final String groupId;
+
+  private final long expensesReplayed;
+
+  private final List<BalanceDiscrepancy> discrepancies;
+
+  private final boolean repaired;
+
+  /**
+   * {@code true} if the ledger changed while the expenses were being replayed or the group has
+   * an expense whose debts may not be applied yet, in which case the group was neither compared
+   * nor repaired, or if some pairs changed before the repair could correct them, in which case
+   * only the other pairs were corrected.
+   */
+  private final boolean skipped;
+
+  public GroupReconciliation(String groupId, long expensesReplayed,
+                             List<BalanceDiscrepancy> discrepancies, boolean repaired,
+                             boolean skipped) {
+    this.groupId = groupId;
+    this.expensesReplayed = expensesReplayed;
+    this.discrepancies = discrepancies;
+    this.repaired = repaired;
+    this.skipped = skipped;
+  }
+
+  public String getGroupId() {
+    return groupId;
+  }
+
+  public long getExpensesReplayed() {
+    return expensesReplayed;
+  }
+
+  public List<BalanceDiscrepancy> getDiscrepancies() {
+    return discrepancies;
+  }
+
+  public boolean isRepaired() {
+    return repaired;
+  }
+
+  public boolean isSkipped() {
+    return skipped;
+  }
+}
@@ -0,0 +1,90 @@
+package com.BillSyncOrg.BillSync.dto.balanceRecords;
+
+import java.util.List;
+
+/**
+ * Summary of a reconciliation run over one or more groups.
+ * <p>
+ * {@code mismatchedGroups} lists at most the first 100 groups whose ledger did not match
+ * their expenses.
+ * </p>
+ */
+public class ReconciliationReport {
+
+  private final long groupsChecked;
+
+  private final long groupsMismatched;
+
+  private final long groupsRepaired;
+
+  private final long groupsSkipped;
+
+  private final long groupsFailed;
+
+  private final long expensesReplayed;
+
+  private final long elapsedMillis;
+
+  private final double expensesPerSecond;
+
+  private final List<GroupReconciliation> mismatchedGroups;
+
+  public ReconciliationReport(long groupsChecked, long groupsMismatched, long groupsRepaired,
+                              long groupsSkipped, long groupsFailed, long expensesReplayed,
+                              long elapsedMillis, List<GroupReconciliation> mismatchedGroups) {
+    this.groupsChecked = groupsChecked;
+    this.groupsMismatched = groupsMismatched;
+    this.groupsRepaired = groupsRepaired;
+    this.groupsSkipped = groupsSkipped;
+    this.groupsFailed = groupsFailed;
+    this.expensesReplayed = expensesReplayed;
+    this.elapsedMillis = elapsedMillis;
+    this.expensesPerSecond = elapsedMillis > 0 ? expensesReplayed * 1000.0 / elapsedMillis : 0;
+    this.mismatchedGroups = mismatchedGroups;
+  }
+
+  public long getGroupsChecked() {
+    return groupsChecked;
+  }
+
+  public long getGroupsMismatched() {
+    return groupsMismatched;
+  }
+
+  public long getGroupsRepaired() {
+    return groupsRepaired;
+  }
+
+  public long getGroupsSkipped() {
+    return groupsSkipped;
+  }
+
+  public long getGroupsFailed() {
+    return groupsFailed;
+  }
+
+  public long getExpensesReplayed() {
+    return expensesReplayed;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public double getExpensesPerSecond() {
+    return expensesPerSecond;
+  }
+
+  public List<GroupReconciliation> getMismatchedGroups() {
+    return mismatchedGroups;
+  }
+
+  @Override
+  public String toString() {
+    return "groupsChecked=" + groupsChecked + ", groupsMismatched=" + groupsMismatched
+      + ", groupsRepaired=" + groupsRepaired + ", groupsSkipped=" + groupsSkipped
+      + ", groupsFailed=" + groupsFailed + ", expensesReplayed=" + expensesReplayed
+      + ", elapsedMillis=" + elapsedMillis
+      + ", expensesPerSecond=" + String.format("%.1f", expensesPerSecond);
+  }
+}
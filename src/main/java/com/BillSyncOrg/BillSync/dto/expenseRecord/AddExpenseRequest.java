@@ -1,6 +1,10 @@
 package com.BillSyncOrg.BillSync.dto.expenseRecord;
 
 import com.BillSyncOrg.BillSync.util.enums.SplitMethodEnum;
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsDeserializer;
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotBlank;
 
 import java.util.List;
@@ -20,8 +24,13 @@ public class AddExpenseRequest {
   @NotBlank(message = "Description is required")
   private String description;
 
+  /**
+   * Total amount in minor units; accepted as a decimal amount (at most two decimals) in JSON.
+   */
   @NotBlank(message = "Price is required")
-  private double totalAmount;
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @JsonDeserialize(using = MinorUnitsDeserializer.class)
+  private long totalAmount;
 
   @NotBlank(message = "PaidBy is required")
   private String paidBy;
@@ -49,11 +58,11 @@ public class AddExpenseRequest {
     this.description = description;
   }
 
-  public double getTotalAmount() {
+  public long getTotalAmount() {
     return totalAmount;
   }
 
-  public void setTotalAmount(double totalAmount) {
+  public void setTotalAmount(long totalAmount) {
     this.totalAmount = totalAmount;
   }
 
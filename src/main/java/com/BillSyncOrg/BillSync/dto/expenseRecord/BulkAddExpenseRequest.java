@@ -0,0 +1,35 @@
+package com.BillSyncOrg.BillSync.dto.expenseRecord;
+
+import java.util.List;
+
+/**
+ * DTO for importing many expenses in a single call, e.g. from a bank or card statement.
+ * <p>
+ * Each entry follows the same rules as a single {@link AddExpenseRequest}. Expenses may belong
+ * to different groups.
+ * </p>
+ *
+ * <p><b>Example JSON Request:</b></p>
+ * <pre>
+ * {
+ *   "expenses": [
+ *     { "groupId": "g1", "description": "Groceries", "totalAmount": 42.10,
+ *       "paidBy": "user1", "splitMethod": "equal" },
+ *     { "groupId": "g1", "description": "Taxi", "totalAmount": 18.00,
+ *       "paidBy": "user2", "splitMethod": "equal", "splitAmong": ["user1", "user2"] }
+ *   ]
+ * }
+ * </pre>
+ */
+public class BulkAddExpenseRequest {
+
+  private List<AddExpenseRequest> expenses;
+
+  public List<AddExpenseRequest> getExpenses() {
+    return expenses;
+  }
+
+  public void setExpenses(List<AddExpenseRequest> expenses) {
+    this.expenses = expenses;
+  }
+}
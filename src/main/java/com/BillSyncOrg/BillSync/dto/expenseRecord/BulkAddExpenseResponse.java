@@ -0,0 +1,38 @@
+package com.BillSyncOrg.BillSync.dto.expenseRecord;
+
+import java.util.List;
+
+/**
+ * DTO returned after a bulk expense import.
+ * <p>
+ * {@code expenseIds} follows the order of the request. If an expense could not be stored its
+ * position is listed in {@code failedIndexes} and its ID is {@code null}.
+ * </p>
+ */
+public class BulkAddExpenseResponse {
+
+  private final int insertedCount;
+
+  private final List<String> expenseIds;
+
+  private final List<Integer> failedIndexes;
+
+  public BulkAddExpenseResponse(int insertedCount, List<String> expenseIds,
+                                List<Integer> failedIndexes) {
+    this.insertedCount = insertedCount;
+    this.expenseIds = expenseIds;
+    this.failedIndexes = failedIndexes;
+  }
+
+  public int getInsertedCount() {
+    return insertedCount;
+  }
+
+  public List<String> getExpenseIds() {
+    return expenseIds;
+  }
+
+  public List<Integer> getFailedIndexes() {
+    return failedIndexes;
+  }
+}
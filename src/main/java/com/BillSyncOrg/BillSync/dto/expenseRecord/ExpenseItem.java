@@ -1,5 +1,10 @@
 package com.BillSyncOrg.BillSync.dto.expenseRecord;
 
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsDeserializer;
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.util.List;
 
 /**
@@ -11,15 +16,17 @@ import java.util.List;
 public class ExpenseItem {
 
   private String name;              // e.g., "Milk", "Eggs"
-  private double price;             // item price
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @JsonDeserialize(using = MinorUnitsDeserializer.class)
+  private long price;               // item price in minor units
   private List<String> sharedAmong; // userIds sharing this item
 
   // Getters and Setters
   public String getName() { return name; }
   public void setName(String name) { this.name = name; }
 
-  public double getPrice() { return price; }
-  public void setPrice(double price) { this.price = price; }
+  public long getPrice() { return price; }
+  public void setPrice(long price) { this.price = price; }
 
   public List<String> getSharedAmong() { return sharedAmong; }
   public void setSharedAmong(List<String> sharedAmong) { this.sharedAmong = sharedAmong; }
@@ -0,0 +1,55 @@
+package com.BillSyncOrg.BillSync.dto.expenseRecord;
+
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO holding one page of a group's expense history, newest first.
+ * <p>
+ * {@code nextCursor} is an opaque value to pass as {@code after} to fetch the next page.
+ * It is {@code null} on the last page. {@code userNames} maps every user ID referenced by the
+ * page to the user's name, and is only present when names were requested.
+ * </p>
+ *
+ * <p><b>Example JSON Response:</b></p>
+ * <pre>
+ * {
+ *   "expenses": [ { "id": "...", "description": "Groceries", ... } ],
+ *   "nextCursor": "MTcxMjM0NTY3ODkwMDo2NjFm..."
+ * }
+ * </pre>
+ */
+public class ExpensePage {
+
+  private final List<Expense> expenses;
+
+  private final String nextCursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final Map<String, String> userNames;
+
+  public ExpensePage(List<Expense> expenses, String nextCursor) {
+    this(expenses, nextCursor, null);
+  }
+
+  public ExpensePage(List<Expense> expenses, String nextCursor, Map<String, String> userNames) {
+    this.expenses = expenses;
+    this.nextCursor = nextCursor;
+    this.userNames = userNames;
+  }
+
+  public List<Expense> getExpenses() {
+    return expenses;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public Map<String, String> getUserNames() {
+    return userNames;
+  }
+}
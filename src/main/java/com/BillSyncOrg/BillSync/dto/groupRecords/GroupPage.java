@@ -0,0 +1,38 @@
+package com.BillSyncOrg.BillSync.dto.groupRecords;
+
+import java.util.List;
+
+/**
+ * DTO holding one page of the current user's groups, ordered by group ID.
+ * <p>
+ * {@code nextCursor} is an opaque value to pass as {@code after} to fetch the next page.
+ * It is {@code null} on the last page.
+ * </p>
+ *
+ * <p><b>Example JSON Response:</b></p>
+ * <pre>
+ * {
+ *   "groups": [ { "id": "64f1a8b7c1...", "groupName": "Trip", "netBalance": -12.50 } ],
+ *   "nextCursor": "64f1a8b8d2..."
+ * }
+ * </pre>
+ */
+public class GroupPage {
+
+  private final List<GroupSummary> groups;
+
+  private final String nextCursor;
+
+  public GroupPage(List<GroupSummary> groups, String nextCursor) {
+    this.groups = groups;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<GroupSummary> getGroups() {
+    return groups;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
@@ -0,0 +1,48 @@
+package com.BillSyncOrg.BillSync.dto.groupRecords;
+
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A group of the current user together with the user's net balance in it.
+ *
+ * <p><b>Example JSON Response:</b></p>
+ * <pre>
+ * {
+ *   "id": "64f1a8b7c1...",
+ *   "groupName": "Trip",
+ *   "netBalance": -12.50
+ * }
+ * </pre>
+ */
+public class GroupSummary {
+
+  private final String id;
+
+  private final String groupName;
+
+  /**
+   * What the rest of the group owes the user, minus what the user owes, in minor units.
+   * Negative if the user owes money. Exposed as a decimal amount in JSON.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  private final long netBalance;
+
+  public GroupSummary(String id, String groupName, long netBalance) {
+    this.id = id;
+    this.groupName = groupName;
+    this.netBalance = netBalance;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getGroupName() {
+    return groupName;
+  }
+
+  public long getNetBalance() {
+    return netBalance;
+  }
+}
@@ -0,0 +1,85 @@
+package com.BillSyncOrg.BillSync.dto.groupRecords;
+
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A single payment suggested by the settlement engine to settle up a group.
+ *
+ * <p><b>Example JSON Response:</b></p>
+ * <pre>
+ * {
+ *   "from": "user1",
+ *   "to": "user2",
+ *   "amount": 42.50
+ * }
+ * </pre>
+ *
+ * <p>
+ * {@code fromName} and {@code toName} are only present when names were requested.
+ * </p>
+ */
+public class SettlementTransfer {
+
+  /**
+   * The user ID of the member who has to pay.
+   */
+  private final String from;
+
+  /**
+   * The user ID of the member who receives the payment.
+   */
+  private final String to;
+
+  /**
+   * The amount to transfer in minor units. Exposed as a decimal amount in JSON.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  private final long amount;
+
+  /**
+   * The name of the paying member, if requested.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String fromName;
+
+  /**
+   * The name of the receiving member, if requested.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String toName;
+
+  public SettlementTransfer(String from, String to, long amount) {
+    this(from, to, amount, null, null);
+  }
+
+  public SettlementTransfer(String from, String to, long amount, String fromName,
+                            String toName) {
+    this.from = from;
+    this.to = to;
+    this.amount = amount;
+    this.fromName = fromName;
+    this.toName = toName;
+  }
+
+  public String getFrom() {
+    return from;
+  }
+
+  public String getTo() {
+    return to;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public String getFromName() {
+    return fromName;
+  }
+
+  public String getToName() {
+    return toName;
+  }
+}
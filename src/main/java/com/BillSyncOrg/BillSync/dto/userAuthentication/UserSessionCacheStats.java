@@ -0,0 +1,39 @@
+package com.BillSyncOrg.BillSync.dto.userAuthentication;
+
+/**
+ * Hit and miss counters of the user session cache consulted on every authenticated request.
+ */
+public class UserSessionCacheStats {
+
+  private final long hits;
+
+  private final long misses;
+
+  private final int size;
+
+  public UserSessionCacheStats(long hits, long misses, int size) {
+    this.hits = hits;
+    this.misses = misses;
+    this.size = size;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public long getMisses() {
+    return misses;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return the fraction of lookups served from the cache, or {@code 0} before any lookup
+   */
+  public double getHitRate() {
+    long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+}
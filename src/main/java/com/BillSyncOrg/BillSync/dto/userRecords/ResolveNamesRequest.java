@@ -0,0 +1,32 @@
+package com.BillSyncOrg.BillSync.dto.userRecords;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request body of the {@code /resolve-names} endpoint.
+ *
+ * <p><b>Example JSON Request:</b></p>
+ * <pre>
+ * {
+ *   "userIds": ["64f1a8b7c1", "64f1a8b7c2"]
+ * }
+ * </pre>
+ */
+public class ResolveNamesRequest {
+
+  /**
+   * The IDs of the users to resolve.
+   */
+  @NotNull(message = "User IDs are required")
+  private List<String> userIds;
+
+  public List<String> getUserIds() {
+    return userIds;
+  }
+
+  public void setUserIds(List<String> userIds) {
+    this.userIds = userIds;
+  }
+}
@@ -0,0 +1,38 @@
+package com.BillSyncOrg.BillSync.dto.userRecords;
+
+import java.util.List;
+
+/**
+ * DTO holding one page of the user directory, ordered by user ID.
+ * <p>
+ * {@code nextCursor} is an opaque value to pass as {@code after} to fetch the next page.
+ * It is {@code null} on the last page.
+ * </p>
+ *
+ * <p><b>Example JSON Response:</b></p>
+ * <pre>
+ * {
+ *   "users": [ { "id": "64f1a8b7c1...", "name": "Alice" } ],
+ *   "nextCursor": "64f1a8b8d2..."
+ * }
+ * </pre>
+ */
+public class UserPage {
+
+  private final List<UserSummary> users;
+
+  private final String nextCursor;
+
+  public UserPage(List<UserSummary> users, String nextCursor) {
+    this.users = users;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<UserSummary> getUsers() {
+    return users;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
@@ -0,0 +1,28 @@
+package com.BillSyncOrg.BillSync.dto.userRecords;
+
+import com.BillSyncOrg.BillSync.projection.allUsers.UserIDNameProjection;
+
+/**
+ * Immutable ID and name of a user, returned by the user directory endpoints.
+ */
+public class UserSummary implements UserIDNameProjection {
+
+  private final String id;
+
+  private final String name;
+
+  public UserSummary(String id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+}
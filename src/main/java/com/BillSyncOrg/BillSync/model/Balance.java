@@ -0,0 +1,88 @@
+package com.BillSyncOrg.BillSync.model;
+
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Represents the running amount one member of a group owes another member.
+ * <p>
+ * Each document is one edge of the group's debt ledger. Keeping the ledger in its own
+ * collection keeps {@link Group} documents small and constant in size, however many
+ * members and expenses a group has.
+ * </p>
+ *
+ * <p>MongoDB Index:</p>
+ * <ul>
+ *   <li>Unique compound index on {@code (groupId, debtor, creditor)}, so every pair has exactly
+ *   one document and all balances of a group can be read with an index scan.</li>
+ * </ul>
+ */
+@Document(collection = "balances")
+@CompoundIndex(name = "group_debtor_creditor", def = "{'groupId': 1, 'debtor': 1, 'creditor': 1}",
+  unique = true)
+public class Balance {
+
+  @Id
+  private String id;
+
+  private String groupId;
+
+  /**
+   * The user ID of the member who owes the amount.
+   */
+  private String debtor;
+
+  /**
+   * The user ID of the member who is owed the amount.
+   */
+  private String creditor;
+
+  /**
+   * The amount owed in minor units. Exposed as a decimal amount in JSON.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  private long amount;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getGroupId() {
+    return groupId;
+  }
+
+  public void setGroupId(String groupId) {
+    this.groupId = groupId;
+  }
+
+  public String getDebtor() {
+    return debtor;
+  }
+
+  public void setDebtor(String debtor) {
+    this.debtor = debtor;
+  }
+
+  public String getCreditor() {
+    return creditor;
+  }
+
+  public void setCreditor(String creditor) {
+    this.creditor = creditor;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(long amount) {
+    this.amount = amount;
+  }
+}
@@ -1,14 +1,20 @@
 package com.BillSyncOrg.BillSync.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 
 /**
  * Entity representing a JWT token that has been blacklisted and is no longer considered valid.
  * <p>
  * Blacklisting is used to prevent further use of a JWT after logout or manual invalidation.
+ * Entries are removed by a TTL index once the token expires, since an expired token is
+ * rejected anyway. Entries stored before {@code expiresAt} existed are removed by a second TTL
+ * index on {@code blacklistedAt} after the token validity of 30 days, by which time the token
+ * has expired as well.
  */
 @Document(collection = "blacklisted_tokens")
 public class BlacklistedToken {
@@ -19,18 +25,28 @@ public class BlacklistedToken {
   /**
    * The JWT token string that has been blacklisted.
    */
+  @Indexed(unique = true)
   private String token;
 
   /**
-   * The date and time when the token was added to the blacklist.
+   * The date and time when the token was added to the blacklist. MongoDB deletes the entry
+   * once the longest possible token lifetime has passed since then.
    */
+  @Indexed(expireAfter = "30d")
   private LocalDateTime blacklistedAt;
 
+  /**
+   * The expiry of the token. MongoDB deletes the entry once this time has passed.
+   */
+  @Indexed(expireAfter = "0s")
+  private Date expiresAt;
+
   public BlacklistedToken() {}
 
-  public BlacklistedToken(String token) {
+  public BlacklistedToken(String token, Date expiresAt) {
     this.token = token;
     this.blacklistedAt = LocalDateTime.now();
+    this.expiresAt = expiresAt;
   }
 
   public String getId() {
@@ -44,4 +60,8 @@ public class BlacklistedToken {
   public LocalDateTime getBlacklistedAt() {
     return blacklistedAt;
   }
+
+  public Date getExpiresAt() {
+    return expiresAt;
+  }
 }
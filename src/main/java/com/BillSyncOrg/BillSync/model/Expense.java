@@ -2,7 +2,12 @@ package com.BillSyncOrg.BillSync.model;
 
 import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
 import com.BillSyncOrg.BillSync.util.enums.SplitMethodEnum;
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsDeserializer;
+import com.BillSyncOrg.BillSync.util.money.MinorUnitsSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -13,8 +18,15 @@ import java.util.List;
  * <p>
  * Can be split equally or itemized among group members.
  * </p>
+ *
+ * <p>MongoDB Index:</p>
+ * <ul>
+ *   <li>Compound index on {@code (groupId, createAt, _id)} backing the keyset-paginated
+ *   expense history of a group.</li>
+ * </ul>
  */
 @Document(collection = "expenses")
+@CompoundIndex(name = "group_createAt_id", def = "{'groupId': 1, 'createAt': -1, '_id': -1}")
 public class Expense {
 
   @Id
@@ -24,7 +36,12 @@ public class Expense {
 
   private String description;
 
-  private double totalAmount;
+  /**
+   * Total amount in minor units (e.g. cents). Exposed as a decimal amount in JSON.
+   */
+  @JsonSerialize(using = MinorUnitsSerializer.class)
+  @JsonDeserialize(using = MinorUnitsDeserializer.class)
+  private long totalAmount;
 
   private String paidBy;
 
@@ -60,11 +77,11 @@ public class Expense {
     this.description = description;
   }
 
-  public double getTotalAmount() {
+  public long getTotalAmount() {
     return totalAmount;
   }
 
-  public void setTotalAmount(double totalAmount) {
+  public void setTotalAmount(long totalAmount) {
     this.totalAmount = totalAmount;
   }
 
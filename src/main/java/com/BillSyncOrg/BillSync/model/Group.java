@@ -1,37 +1,45 @@
 package com.BillSyncOrg.BillSync.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a group of users where members can share expenses.
- * Each group keeps track of debts between users.
+ * Debts between members are kept in the separate {@link Balance} ledger, so the group
+ * document stays small regardless of how many members or expenses it has.
  *
  * <p>Fields:</p>
  * <ul>
  *   <li>{@code id} - Unique identifier for the group (MongoDB ObjectId).</li>
  *   <li>{@code groupName} - Name of the group. Must be unique.</li>
  *   <li>{@code userId} - List of user IDs that are members of the group.</li>
- *   <li>{@code debts} - Nested map representing debts.
- *       Format: { "userId1": { "userId2": 50.0, "userId3": 20.0 }, ... }
- *       meaning userId1 owes 50 to userId2 and 20 to userId3.
- *   </li>
  * </ul>
  *
  * <p>MongoDB Index:</p>
  * <ul>
  *   <li>{@code @Indexed(unique = true)} ensures groupName is unique.</li>
+ *   <li>{@code @CompoundIndex} on {@code (userId, _id)} is a multikey index with one entry per
+ *   member, so the groups of a user can be found and paged by ID without scanning all
+ *   groups.</li>
  * </ul>
  */
 @Document(collection = "groups")
+@CompoundIndex(name = Group.MEMBER_INDEX, def = "{'userId': 1, '_id': 1}")
 public class Group {
 
+  /**
+   * Name of the multikey index on {@code userId}, used to find the groups of a user.
+   */
+  public static final String MEMBER_INDEX = "member_user_id_id";
+
   @Id
   private String id;
 
@@ -40,7 +48,12 @@ public class Group {
 
   private List<String> userId = new ArrayList<>();
 
-  private Map<String, Map<String, Double>> debts = new HashMap<>();
+  /**
+   * Hashed view of {@code userId} for constant-time membership checks. Built on first use and
+   * never persisted.
+   */
+  @Transient
+  private Set<String> memberIndex;
 
   public String getId() {
     return id;
@@ -64,13 +77,25 @@ public class Group {
 
   public void setUserId(List<String> userId) {
     this.userId = userId;
+    this.memberIndex = null;
   }
 
-  public Map<String, Map<String, Double>> getDebts() {
-    return debts;
-  }
-
-  public void setDebts(Map<String, Map<String, Double>> debts) {
-    this.debts = debts;
+  /**
+   * Checks whether the given user is a member of this group.
+   * <p>
+   * The first call builds a hash set of the members, so validating many users against the same
+   * loaded group costs one set lookup each instead of a list scan.
+   * </p>
+   *
+   * @param userId the user ID to check
+   * @return {@code true} if the user is a member of the group
+   */
+  public boolean hasMember(String userId) {
+    Set<String> index = memberIndex;
+    if (index == null) {
+      index = this.userId != null ? new HashSet<>(this.userId) : Set.of();
+      memberIndex = index;
+    }
+    return index.contains(userId);
   }
 }
@@ -1,6 +1,7 @@
 package com.BillSyncOrg.BillSync.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
@@ -26,13 +27,25 @@ public class User {
   private String id;
 
   /**
-   * The user's email address. Should be unique across the database.
+   * Name of the unique index on {@link #email}.
    */
+  public static final String EMAIL_INDEX = "email_unique";
+
+  /**
+   * Name of the unique index on {@link #phoneNumber}.
+   */
+  public static final String PHONE_NUMBER_INDEX = "phone_number_unique";
+
+  /**
+   * The user's email address. Unique across the database.
+   */
+  @Indexed(name = EMAIL_INDEX, unique = true)
   private String email;
 
   /**
-   * The user's 10-digit phone number. Should be unique across the database.
+   * The user's 10-digit phone number. Unique across the database.
    */
+  @Indexed(name = PHONE_NUMBER_INDEX, unique = true)
   private String phoneNumber;
 
   /**
@@ -47,6 +60,12 @@ public class User {
 
   private String currentToken;
 
+  /**
+   * Version embedded in every token issued to the user. Incrementing it revokes all tokens
+   * issued before, which is how logout works.
+   */
+  private long tokenVersion;
+
   // Getters and Setters
   public String getId() {
     return id;
@@ -95,4 +114,12 @@ public class User {
   public void setCurrentToken(String currentToken) {
     this.currentToken = currentToken;
   }
+
+  public long getTokenVersion() {
+    return tokenVersion;
+  }
+
+  public void setTokenVersion(long tokenVersion) {
+    this.tokenVersion = tokenVersion;
+  }
 }
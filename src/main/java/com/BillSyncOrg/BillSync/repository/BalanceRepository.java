@@ -0,0 +1,20 @@
+package com.BillSyncOrg.BillSync.repository;
+
+import com.BillSyncOrg.BillSync.model.Balance;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Repository for managing the {@link Balance} documents that make up each group's debt ledger.
+ */
+public interface BalanceRepository extends MongoRepository<Balance, String> {
+
+  /**
+   * Find all balances of a given group.
+   *
+   * @param groupId the ID of the group
+   * @return list of balances for the group
+   */
+  List<Balance> findByGroupId(String groupId);
+}
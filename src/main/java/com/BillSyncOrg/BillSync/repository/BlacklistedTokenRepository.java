@@ -2,6 +2,9 @@ package com.BillSyncOrg.BillSync.repository;
 
 import com.BillSyncOrg.BillSync.model.BlacklistedToken;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD operations on blacklisted JWT tokens.
@@ -15,4 +18,15 @@ public interface BlacklistedTokenRepository extends MongoRepository<BlacklistedT
    * @return true if the token is blacklisted, false otherwise.
    */
   boolean existsByToken(String token);
+
+  /**
+   * Streams all blacklisted tokens, selecting only the {@code token} field.
+   * <p>
+   * The returned stream holds an open cursor and must be closed after use.
+   * </p>
+   *
+   * @return stream of blacklisted tokens
+   */
+  @Query(value = "{}", fields = "{ 'token': 1 }")
+  Stream<BlacklistedToken> streamAllTokens();
 }
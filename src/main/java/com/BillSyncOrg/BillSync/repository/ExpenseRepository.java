@@ -3,7 +3,7 @@ package com.BillSyncOrg.BillSync.repository;
 import com.BillSyncOrg.BillSync.model.Expense;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing Expense documents in MongoDB.
@@ -11,10 +11,13 @@ import java.util.List;
 public interface ExpenseRepository extends MongoRepository<Expense, String> {
 
   /**
-   * Find all expenses belonging to a given group.
+   * Stream all expenses belonging to a given group from a database cursor.
+   * <p>
+   * The returned stream holds an open cursor and must be closed after use.
+   * </p>
    *
    * @param groupId the ID of the group
-   * @return list of expenses for the group
+   * @return stream of expenses for the group
    */
-  List<Expense> findByGroupId(String groupId);
+  Stream<Expense> streamByGroupId(String groupId);
 }
@@ -14,13 +14,4 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  */
 public interface GroupRepository extends MongoRepository<Group, String> {
 
-  /**
-   * Checks if a group with the given name exists, excluding the group with provided ID.
-   *
-   * @param groupName group name to check
-   * @param excludeId group ID to exclude from the check
-   * @return true if a different group with the same name exists
-   */
-  boolean existsByGroupNameAndIdNot(String groupName, String excludeId);
-
 }
@@ -5,7 +5,9 @@ import com.BillSyncOrg.BillSync.model.User;
 import com.BillSyncOrg.BillSync.projection.allUsers.UserIDNameProjection;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,30 +38,6 @@ public interface UserRepository extends MongoRepository<User, String> {
    */
   Optional<User> findByPhoneNumber(String phoneNumber);
 
-  /**
-   * Retrieves all users from the MongoDB {@code users} collection, selecting only
-   * the {@code id} and {@code name} fields for each document.
-   * <p>
-   * This method uses a MongoDB projection to limit the returned fields, thereby
-   * improving performance by reducing the size of the query results. The results
-   * are mapped to the {@link UserIDNameProjection} interface, providing type-safe
-   * access to the selected fields without exposing unnecessary user data.
-   * </p>
-   *
-   * <h3>MongoDB Query Details:</h3>
-   * <ul>
-   *     <li><b>value = "{}"</b> — Matches all documents in the collection.</li>
-   *     <li><b>fields = "{ 'id': 1, 'name': 1 }"</b> — Includes only the {@code id}
-   *     and {@code name} fields in the query result. All other fields are excluded.</li>
-   * </ul>
-   *
-   *
-   * @return a list of {@link UserIDNameProjection} objects containing only
-   *         {@code id} and {@code name} for each user
-   */
-  @Query(value = "{}", fields = "{ '_id': 1, 'name': 1 }")
-  List<UserIDNameProjection> findAllIDAndName();
-
   /**
    * Finds a user by matching either email or phone number and returns only id and name.
    *
@@ -71,10 +49,40 @@ public interface UserRepository extends MongoRepository<User, String> {
   Optional<UserIDNameProjection> findByEmailOrPhone(String value);
 
   /**
-   * Finds all users whose IDs are in the given list.
+   * Finds all users whose IDs are in the given collection, selecting only {@code _id}.
+   *
+   * @param ids the user IDs
+   * @return the matching users, with every field but the ID left empty
+   */
+  @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ '_id': 1 }")
+  List<User> findIdsByIdIn(Collection<String> ids);
+
+  /**
+   * Finds a user by ID, selecting only the {@code tokenVersion} field.
+   *
+   * @param id the user ID
+   * @return an Optional containing the user if found
+   */
+  @Query(value = "{ '_id': ?0 }", fields = "{ '_id': 1, 'tokenVersion': 1 }")
+  Optional<User> findTokenVersionById(String id);
+
+  /**
+   * Stores the most recently issued token of a user without rewriting the rest of the document.
+   *
+   * @param id    the user ID
+   * @param token the issued token
+   */
+  @Query("{ '_id': ?0 }")
+  @Update("{ '$set': { 'currentToken': ?1 } }")
+  void updateCurrentTokenById(String id, String token);
+
+  /**
+   * Increments the token version of a user, revoking every token issued before.
    *
-   * @param ids list of user IDs
-   * @return list of matching users
+   * @param id the user ID
+   * @return the number of users updated
    */
-  List<User> findByIdIn(List<String> ids);
+  @Query("{ '_id': ?0 }")
+  @Update("{ '$inc': { 'tokenVersion': 1 } }")
+  long incrementTokenVersionById(String id);
 }
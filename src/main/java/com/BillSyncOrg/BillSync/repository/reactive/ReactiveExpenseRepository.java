@@ -0,0 +1,14 @@
+package com.BillSyncOrg.BillSync.repository.reactive;
+
+import com.BillSyncOrg.BillSync.model.Expense;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Non-blocking counterpart of {@link com.BillSyncOrg.BillSync.repository.ExpenseRepository},
+ * used by the {@code reactive} profile.
+ * <p>
+ * Expense history is read page by page through {@code ExpenseKeyset}, never as a whole.
+ * </p>
+ */
+public interface ReactiveExpenseRepository extends ReactiveMongoRepository<Expense, String> {
+}
@@ -0,0 +1,11 @@
+package com.BillSyncOrg.BillSync.repository.reactive;
+
+import com.BillSyncOrg.BillSync.model.Group;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Non-blocking counterpart of {@link com.BillSyncOrg.BillSync.repository.GroupRepository},
+ * used by the {@code reactive} profile.
+ */
+public interface ReactiveGroupRepository extends ReactiveMongoRepository<Group, String> {
+}
@@ -0,0 +1,35 @@
+package com.BillSyncOrg.BillSync.service.admin;
+
+import com.BillSyncOrg.BillSync.context.RequestContext;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Service guarding operational endpoints under {@code /api/admin}.
+ * <p>
+ * Administrators are the users whose IDs are listed in the {@code billsync.admin.user-ids}
+ * property. When the property is empty, nobody has admin access.
+ * </p>
+ */
+@Service
+public class AdminAccessService {
+
+  @Value("${billsync.admin.user-ids:}")
+  private Set<String> adminUserIds;
+
+  /**
+   * Verifies that the user of the current request is an administrator.
+   *
+   * @throws BillSyncClientException with {@link HttpStatusCodeEnum#FORBIDDEN} otherwise
+   */
+  public void checkAdmin() throws BillSyncClientException {
+    String userId = RequestContext.getUserId();
+    if (userId == null || !adminUserIds.contains(userId)) {
+      throw new BillSyncClientException("Admin access required", HttpStatusCodeEnum.FORBIDDEN);
+    }
+  }
+}
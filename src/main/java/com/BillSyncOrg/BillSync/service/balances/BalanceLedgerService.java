@@ -0,0 +1,155 @@
+package com.BillSyncOrg.BillSync.service.balances;
+
+import com.BillSyncOrg.BillSync.dto.balanceRecords.BalanceDiscrepancy;
+import com.BillSyncOrg.BillSync.model.Balance;
+import com.BillSyncOrg.BillSync.repository.BalanceRepository;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service that reads and writes the debt ledger of groups stored in the {@code balances}
+ * collection.
+ * <p>
+ * Debts are represented as nested maps keyed by debtor and then creditor, with amounts in
+ * minor units. Writes are atomic {@code $inc} upserts on one {@link Balance} document per pair,
+ * so concurrent writers never overwrite each other.
+ * </p>
+ */
+@Service
+public class BalanceLedgerService {
+
+  private final BalanceRepository balanceRepository;
+
+  private final MongoTemplate mongoTemplate;
+
+  @Autowired
+  public BalanceLedgerService(BalanceRepository balanceRepository, MongoTemplate mongoTemplate) {
+    this.balanceRepository = balanceRepository;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Adds the given debt changes to the ledger of a group with a single unordered bulk write.
+   *
+   * @param groupId the ID of the group
+   * @param deltas  debt changes in minor units keyed by debtor and then creditor
+   */
+  public void applyDeltas(String groupId, Map<String, Map<String, Long>> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    BulkOperations operations =
+      mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Balance.class);
+    deltas.forEach((debtor, creditors) -> creditors.forEach((creditor, amount) ->
+      operations.upsert(
+        Query.query(Criteria.where("groupId").is(groupId)
+          .and("debtor").is(debtor)
+          .and("creditor").is(creditor)),
+        new Update().inc("amount", amount))));
+    operations.execute();
+  }
+
+  /**
+   * Sets the given pairs of a group's ledger to their expected amounts, but only where the
+   * stored amount is still the one that was observed.
+   * <p>
+   * Each pair is written with a conditional update that matches the observed amount, so applying
+   * the same corrections twice, or after a concurrent expense changed the pair, writes nothing.
+   * A pair observed as {@code 0} may have no document yet; it is upserted, and the unique index
+   * on the pair rejects the insert if a document with another amount exists.
+   * </p>
+   *
+   * @param groupId       the ID of the group
+   * @param discrepancies the pairs to correct, with the observed and the expected amounts
+   * @return the number of pairs that were corrected
+   */
+  public int correctAmounts(String groupId, List<BalanceDiscrepancy> discrepancies) {
+    int corrected = 0;
+    for (BalanceDiscrepancy discrepancy : discrepancies) {
+      Query query = Query.query(Criteria.where("groupId").is(groupId)
+        .and("debtor").is(discrepancy.getDebtor())
+        .and("creditor").is(discrepancy.getCreditor())
+        .and("amount").is(discrepancy.getStored()));
+      Update update = new Update().set("amount", discrepancy.getExpected());
+      try {
+        if (discrepancy.getStored() == 0) {
+          mongoTemplate.upsert(query, update, Balance.class);
+          corrected++;
+        } else if (mongoTemplate.updateFirst(query, update, Balance.class).getMatchedCount() > 0) {
+          corrected++;
+        }
+      } catch (DuplicateKeyException e) {
+        // The pair was written since it was observed as absent.
+      }
+    }
+    return corrected;
+  }
+
+  /**
+   * Reads the current debts of a group.
+   *
+   * @param groupId the ID of the group
+   * @return non-zero debts in minor units keyed by debtor and then creditor
+   */
+  public Map<String, Map<String, Long>> getDebts(String groupId) {
+    Map<String, Map<String, Long>> debts = new HashMap<>();
+    for (Balance balance : balanceRepository.findByGroupId(groupId)) {
+      if (balance.getAmount() != 0) {
+        debts.computeIfAbsent(balance.getDebtor(), k -> new HashMap<>())
+          .put(balance.getCreditor(), balance.getAmount());
+      }
+    }
+    return debts;
+  }
+
+  /**
+   * Computes the net balance of one user in each of the given groups.
+   * <p>
+   * The sum is computed by an aggregation in the database, so only one number per group is
+   * returned instead of the ledger entries.
+   * </p>
+   *
+   * @param userId   the ID of the user
+   * @param groupIds the IDs of the groups
+   * @return what the user is owed minus what the user owes, in minor units, keyed by group ID;
+   *         groups without any debts of the user are left out
+   */
+  public Map<String, Long> getNetBalances(String userId, Collection<String> groupIds) {
+    Map<String, Long> balances = new HashMap<>();
+    if (groupIds.isEmpty()) {
+      return balances;
+    }
+
+    Aggregation aggregation = Aggregation.newAggregation(
+      Aggregation.match(Criteria.where("groupId").in(groupIds)
+        .orOperator(Criteria.where("debtor").is(userId), Criteria.where("creditor").is(userId))),
+      Aggregation.project("groupId")
+        .and(ConditionalOperators
+          .when(ComparisonOperators.valueOf("creditor").equalToValue(userId))
+          .thenValueOf("amount")
+          .otherwiseValueOf(ArithmeticOperators.valueOf("amount").multiplyBy(-1)))
+        .as("net"),
+      Aggregation.group("groupId").sum("net").as("net"));
+
+    for (Document result : mongoTemplate.aggregate(aggregation, Balance.class, Document.class)) {
+      balances.put(result.getString("_id"), ((Number) result.get("net")).longValue());
+    }
+    return balances;
+  }
+}
@@ -0,0 +1,288 @@
+package com.BillSyncOrg.BillSync.service.balances;
+
+import com.BillSyncOrg.BillSync.dto.balanceRecords.BalanceDiscrepancy;
+import com.BillSyncOrg.BillSync.dto.balanceRecords.GroupReconciliation;
+import com.BillSyncOrg.BillSync.dto.balanceRecords.ReconciliationReport;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.repository.ExpenseRepository;
+import com.BillSyncOrg.BillSync.service.expenses.UtilExpenseService;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Service that checks, and optionally repairs, the debt ledger of groups by replaying their
+ * expenses.
+ * <p>
+ * The ledger in the {@code balances} collection is derived state. For each group, all expenses
+ * are streamed from {@link ExpenseRepository} and split again with
+ * {@link UtilExpenseService#computeDebtDeltas}, and the result is compared against the stored
+ * ledger. A repair sets each mismatched pair to its replayed amount with a conditional update
+ * that only matches the amount observed during the comparison, see
+ * {@link BalanceLedgerService#correctAmounts}. Repeating a repair is therefore harmless, and a
+ * pair changed by a concurrent expense is left alone and the group reported as skipped.
+ * </p>
+ *
+ * <p>
+ * The ledger is read before and after the replay. If it changed in between, the group is
+ * reported as skipped rather than compared, since the replay may not cover the latest expense.
+ * A group is also skipped if it has an expense created within the last
+ * {@code reconciliation.settle-time-ms}: expenses are saved before their debts are added, so the
+ * debts of such an expense may still be on their way, and a repair that already counted them
+ * would see them added a second time.
+ * </p>
+ *
+ * <p>
+ * Runs over all groups use a dedicated {@link ForkJoinPool} of
+ * {@code reconciliation.parallelism} workers, or one virtual thread per group when
+ * {@code spring.threads.virtual.enabled} is set, since the work is mostly waiting on MongoDB.
+ * At most {@code reconciliation.max-concurrent-groups} groups are in flight at once, which
+ * bounds both the number of open MongoDB cursors and the number of queued tasks.
+ * </p>
+ */
+@Service
+public class LedgerReconciliationService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LedgerReconciliationService.class);
+
+  private static final int MAX_REPORTED_GROUPS = 100;
+
+  private final ExpenseRepository expenseRepository;
+
+  private final BalanceLedgerService balanceLedgerService;
+
+  private final UtilExpenseService utilExpenseService;
+
+  private final MongoTemplate mongoTemplate;
+
+  private final ConditionalResponseCache responseCache;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @Value("${reconciliation.parallelism:4}")
+  private int parallelism;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  @Value("${reconciliation.max-concurrent-groups:8}")
+  private int maxConcurrentGroups;
+
+  @Value("${reconciliation.scheduled.repair:false}")
+  private boolean scheduledRepair;
+
+  @Value("${reconciliation.settle-time-ms:60000}")
+  private long settleTimeMillis;
+
+  @Autowired
+  public LedgerReconciliationService(ExpenseRepository expenseRepository,
+                                     BalanceLedgerService balanceLedgerService,
+                                     UtilExpenseService utilExpenseService,
+                                     MongoTemplate mongoTemplate,
+                                     ConditionalResponseCache responseCache) {
+    this.expenseRepository = expenseRepository;
+    this.balanceLedgerService = balanceLedgerService;
+    this.utilExpenseService = utilExpenseService;
+    this.mongoTemplate = mongoTemplate;
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * Reconciles the ledger of every group on the configured schedule.
+   */
+  @Scheduled(cron = "${reconciliation.cron:0 0 3 * * *}")
+  public void scheduledReconciliation() {
+    try {
+      ReconciliationReport report = reconcileAllGroups(scheduledRepair);
+      logger.info("Ledger reconciliation finished: {}", report);
+    } catch (BillSyncClientException | BillSyncServerException e) {
+      logger.warn("Ledger reconciliation did not run: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Reconciles the ledger of a single group.
+   *
+   * @param groupId the ID of the group
+   * @param repair  whether to correct the ledger if it does not match the expenses
+   * @return the result for the group
+   */
+  public GroupReconciliation reconcileGroup(String groupId, boolean repair) {
+    long settledBefore = System.currentTimeMillis() - settleTimeMillis;
+    Map<String, Map<String, Long>> storedBefore = balanceLedgerService.getDebts(groupId);
+
+    Map<String, Map<String, Long>> expected = new HashMap<>();
+    long replayed = 0;
+    boolean unsettled = false;
+    try (Stream<Expense> expenses = expenseRepository.streamByGroupId(groupId)) {
+      Iterator<Expense> iterator = expenses.iterator();
+      while (iterator.hasNext()) {
+        Expense expense = iterator.next();
+        if (expense.getCreateAt() != null && expense.getCreateAt().getTime() > settledBefore) {
+          unsettled = true;
+        }
+        utilExpenseService.computeDebtDeltas(expense, expected);
+        replayed++;
+      }
+    }
+
+    Map<String, Map<String, Long>> stored = balanceLedgerService.getDebts(groupId);
+    if (unsettled || !stored.equals(storedBefore)) {
+      return new GroupReconciliation(groupId, replayed, List.of(), false, true);
+    }
+
+    List<BalanceDiscrepancy> discrepancies = compare(expected, stored);
+    if (!repair || discrepancies.isEmpty()) {
+      return new GroupReconciliation(groupId, replayed, discrepancies, false, false);
+    }
+
+    int corrected = utilExpenseService.correctDebts(groupId, discrepancies);
+    if (corrected > 0) {
+      responseCache.invalidate(ConditionalResponseCache.group(groupId));
+    }
+    // Pairs that changed since they were read are left alone; the next run will see them.
+    boolean complete = corrected == discrepancies.size();
+    return new GroupReconciliation(groupId, replayed, discrepancies, complete, !complete);
+  }
+
+  /**
+   * Reconciles the ledger of every group in parallel.
+   *
+   * @param repair whether to correct ledgers that do not match their expenses
+   * @return the summary of the run, including replay throughput
+   * @throws BillSyncClientException if a reconciliation run is already in progress
+   * @throws BillSyncServerException if the run is interrupted
+   */
+  public ReconciliationReport reconcileAllGroups(boolean repair)
+    throws BillSyncClientException, BillSyncServerException {
+    if (!running.compareAndSet(false, true)) {
+      throw new BillSyncClientException("Reconciliation is already running",
+        HttpStatusCodeEnum.CONFLICT);
+    }
+
+    long start = System.nanoTime();
+    LongAdder checked = new LongAdder();
+    LongAdder mismatched = new LongAdder();
+    LongAdder repaired = new LongAdder();
+    LongAdder skipped = new LongAdder();
+    LongAdder failed = new LongAdder();
+    LongAdder replayed = new LongAdder();
+    Queue<GroupReconciliation> reported = new ConcurrentLinkedQueue<>();
+    AtomicInteger reportedCount = new AtomicInteger();
+
+    Semaphore inFlight = new Semaphore(maxConcurrentGroups);
+    ExecutorService pool = virtualThreads
+      ? Executors.newVirtualThreadPerTaskExecutor()
+      : new ForkJoinPool(parallelism);
+
+    Query groupIds = new Query().noCursorTimeout();
+    groupIds.fields().include("_id");
+
+    try (Stream<Group> groups = mongoTemplate.stream(groupIds, Group.class)) {
+      Iterator<Group> iterator = groups.iterator();
+      while (iterator.hasNext()) {
+        String groupId = iterator.next().getId();
+        inFlight.acquire();
+        try {
+          pool.execute(() -> {
+            try {
+              GroupReconciliation result = reconcileGroup(groupId, repair);
+              checked.increment();
+              replayed.add(result.getExpensesReplayed());
+              if (result.isSkipped()) {
+                skipped.increment();
+              } else if (!result.getDiscrepancies().isEmpty()) {
+                mismatched.increment();
+                if (result.isRepaired()) {
+                  repaired.increment();
+                }
+                if (reportedCount.incrementAndGet() <= MAX_REPORTED_GROUPS) {
+                  reported.add(result);
+                }
+              }
+            } catch (RuntimeException e) {
+              failed.increment();
+              logger.warn("Unable to reconcile group {}", groupId, e);
+            } finally {
+              inFlight.release();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          inFlight.release();
+          throw e;
+        }
+      }
+      // Wait for the remaining groups to finish.
+      inFlight.acquire(maxConcurrentGroups);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BillSyncServerException("Reconciliation was interrupted", e,
+        HttpStatusCodeEnum.SERVICE_UNAVAILABLE);
+    } catch (RejectedExecutionException e) {
+      throw new BillSyncServerException("Unable to schedule reconciliation", e,
+        HttpStatusCodeEnum.SERVICE_UNAVAILABLE);
+    } finally {
+      pool.shutdown();
+      running.set(false);
+    }
+
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    return new ReconciliationReport(checked.sum(), mismatched.sum(), repaired.sum(),
+      skipped.sum(), failed.sum(), replayed.sum(), elapsedMillis, new ArrayList<>(reported));
+  }
+
+  /**
+   * Compares replayed and stored debts, collecting every differing pair.
+   */
+  private List<BalanceDiscrepancy> compare(Map<String, Map<String, Long>> expected,
+                                           Map<String, Map<String, Long>> stored) {
+    List<BalanceDiscrepancy> discrepancies = new ArrayList<>();
+    Set<String> debtors = new HashSet<>(expected.keySet());
+    debtors.addAll(stored.keySet());
+
+    for (String debtor : debtors) {
+      Map<String, Long> expectedCreditors = expected.getOrDefault(debtor, Map.of());
+      Map<String, Long> storedCreditors = stored.getOrDefault(debtor, Map.of());
+      Set<String> creditors = new HashSet<>(expectedCreditors.keySet());
+      creditors.addAll(storedCreditors.keySet());
+
+      for (String creditor : creditors) {
+        long expectedAmount = expectedCreditors.getOrDefault(creditor, 0L);
+        long storedAmount = storedCreditors.getOrDefault(creditor, 0L);
+        if (expectedAmount != storedAmount) {
+          discrepancies.add(new BalanceDiscrepancy(debtor, creditor, expectedAmount, storedAmount));
+        }
+      }
+    }
+    return discrepancies;
+  }
+}
@@ -0,0 +1,72 @@
+package com.BillSyncOrg.BillSync.service.balances;
+
+import com.BillSyncOrg.BillSync.model.Balance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link BalanceLedgerService} for the {@code reactive} profile.
+ * <p>
+ * Writes are the same unordered bulk of {@code $inc} upserts, so both stacks can update the
+ * same ledger concurrently.
+ * </p>
+ */
+@Service
+@Profile("reactive")
+public class ReactiveBalanceLedgerService {
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  @Autowired
+  public ReactiveBalanceLedgerService(ReactiveMongoTemplate reactiveMongoTemplate) {
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+  }
+
+  /**
+   * Adds the given debt changes to the ledger of a group with a single unordered bulk write.
+   *
+   * @param groupId the ID of the group
+   * @param deltas  debt changes in minor units keyed by debtor and then creditor
+   * @return completes once the write is acknowledged
+   */
+  public Mono<Void> applyDeltas(String groupId, Map<String, Map<String, Long>> deltas) {
+    if (deltas.isEmpty()) {
+      return Mono.empty();
+    }
+    ReactiveBulkOperations operations =
+      reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Balance.class);
+    deltas.forEach((debtor, creditors) -> creditors.forEach((creditor, amount) ->
+      operations.upsert(
+        Query.query(Criteria.where("groupId").is(groupId)
+          .and("debtor").is(debtor)
+          .and("creditor").is(creditor)),
+        new Update().inc("amount", amount))));
+    return operations.execute().then();
+  }
+
+  /**
+   * Reads the current debts of a group.
+   *
+   * @param groupId the ID of the group
+   * @return non-zero debts in minor units keyed by debtor and then creditor
+   */
+  public Mono<Map<String, Map<String, Long>>> getDebts(String groupId) {
+    return reactiveMongoTemplate.find(Query.query(Criteria.where("groupId").is(groupId)),
+        Balance.class)
+      .filter(balance -> balance.getAmount() != 0)
+      .collect(HashMap::new, (debts, balance) ->
+        debts.computeIfAbsent(balance.getDebtor(), k -> new HashMap<>())
+          .put(balance.getCreditor(), balance.getAmount()));
+  }
+}
@@ -0,0 +1,183 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.BulkAddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.BulkAddExpenseResponse;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.expenseExceptions.ItemizedExpenseValidationException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.expenseExceptions.UserForExpenseRecordNotPresentInGroup;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.repository.GroupRepository;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service that imports many expenses at once.
+ * <p>
+ * Compared to calling {@link AddExpenseService} once per expense, the import:
+ * <ul>
+ *   <li>loads every referenced group once, with a single query,</li>
+ *   <li>validates all expenses before anything is written,</li>
+ *   <li>stores all expenses with one unordered {@code insertMany},</li>
+ *   <li>folds all debt changes into one combined ledger write per group.</li>
+ * </ul>
+ * </p>
+ */
+@Service
+public class BulkAddExpenseService {
+
+  private final GroupRepository groupRepository;
+
+  private final UtilExpenseService utilExpenseService;
+
+  private final MongoTemplate mongoTemplate;
+
+  private final ConditionalResponseCache responseCache;
+
+  /**
+   * Maximum number of expenses accepted in one import.
+   */
+  @Value("${expenses.bulk.max-size:5000}")
+  private int maxBatchSize;
+
+  @Autowired
+  public BulkAddExpenseService(GroupRepository groupRepository,
+                               UtilExpenseService utilExpenseService,
+                               MongoTemplate mongoTemplate,
+                               ConditionalResponseCache responseCache) {
+    this.groupRepository = groupRepository;
+    this.utilExpenseService = utilExpenseService;
+    this.mongoTemplate = mongoTemplate;
+    this.responseCache = responseCache;
+  }
+
+  /**
+   * Validates and stores all expenses of the request, then applies their debts.
+   * <p>
+   * Validation is all-or-nothing: if any expense is invalid, nothing is written. Debts are only
+   * applied for expenses that were actually stored.
+   * </p>
+   *
+   * @param request the expenses to import
+   * @return the IDs of the stored expenses and the positions of any that failed
+   * @throws BillSyncClientException if the request is empty, too large or any expense is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  public BulkAddExpenseResponse addExpenses(BulkAddExpenseRequest request)
+    throws BillSyncClientException, BillSyncServerException {
+    List<AddExpenseRequest> requests = request.getExpenses();
+    if (requests == null || requests.isEmpty()) {
+      throw new BillSyncClientException("At least one expense is required",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    if (requests.size() > maxBatchSize) {
+      throw new BillSyncClientException("At most " + maxBatchSize + " expenses can be imported at once",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+
+    try {
+      Map<String, Group> groups = loadGroups(requests);
+
+      List<Expense> expenses = new ArrayList<>(requests.size());
+      for (int i = 0; i < requests.size(); i++) {
+        AddExpenseRequest expenseRequest = requests.get(i);
+        try {
+          Expense expense = utilExpenseService.buildExpense(expenseRequest,
+            groups.get(expenseRequest.getGroupId()));
+          expense.setId(new ObjectId().toHexString());
+          expenses.add(expense);
+        } catch (UserForExpenseRecordNotPresentInGroup | ItemizedExpenseValidationException e) {
+          throw new BillSyncClientException("Expense " + i + ": " + e.getMessage(),
+            e.getHttpStatusCode());
+        }
+      }
+
+      Set<Integer> failedIndexes = insertUnordered(expenses);
+
+      Map<String, Map<String, Map<String, Long>>> deltasByGroup = new HashMap<>();
+      List<String> expenseIds = new ArrayList<>(expenses.size());
+      for (int i = 0; i < expenses.size(); i++) {
+        Expense expense = expenses.get(i);
+        if (failedIndexes.contains(i)) {
+          expenseIds.add(null);
+          continue;
+        }
+        expenseIds.add(expense.getId());
+        utilExpenseService.computeDebtDeltas(expense,
+          deltasByGroup.computeIfAbsent(expense.getGroupId(), k -> new HashMap<>()));
+      }
+      deltasByGroup.forEach(utilExpenseService::applyDebtDeltas);
+      deltasByGroup.keySet()
+        .forEach(groupId -> responseCache.invalidate(ConditionalResponseCache.group(groupId)));
+
+      return new BulkAddExpenseResponse(expenses.size() - failedIndexes.size(), expenseIds,
+        failedIndexes.stream().sorted().toList());
+
+    } catch (RecordNotFoundException e) {
+      throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
+    } catch (RuntimeException e) {
+      throw new BillSyncServerException("Unable to import expenses", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Loads every group referenced by the requests with a single query.
+   */
+  private Map<String, Group> loadGroups(List<AddExpenseRequest> requests)
+    throws RecordNotFoundException {
+    Set<String> groupIds = new HashSet<>();
+    for (AddExpenseRequest expenseRequest : requests) {
+      groupIds.add(expenseRequest.getGroupId());
+    }
+
+    Map<String, Group> groups = new HashMap<>();
+    groupRepository.findAllById(groupIds).forEach(group -> groups.put(group.getId(), group));
+
+    for (String groupId : groupIds) {
+      if (!groups.containsKey(groupId)) {
+        throw new RecordNotFoundException("Group not found: " + groupId,
+          HttpStatusCodeEnum.BAD_REQUEST);
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Stores the expenses with one unordered bulk insert.
+   *
+   * @return the positions of the expenses that could not be stored
+   */
+  private Set<Integer> insertUnordered(List<Expense> expenses) {
+    try {
+      mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Expense.class)
+        .insert(expenses)
+        .execute();
+      return Set.of();
+    } catch (BulkOperationException e) {
+      Set<Integer> failedIndexes = new HashSet<>();
+      for (BulkWriteError error : e.getErrors()) {
+        failedIndexes.add(error.getIndex());
+      }
+      return failedIndexes;
+    }
+  }
+}
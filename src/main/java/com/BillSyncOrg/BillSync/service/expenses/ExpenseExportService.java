@@ -0,0 +1,186 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.service.group.UtilGroupService;
+import com.BillSyncOrg.BillSync.util.enums.ExportFormatEnum;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import com.BillSyncOrg.BillSync.util.money.MoneyUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service that streams the full expense history of a group as NDJSON or CSV.
+ * <p>
+ * Expenses are read from a MongoDB cursor in batches and written to the output one at a time,
+ * so memory use stays constant regardless of the size of the history. Writes to the response
+ * block while the client is not reading, which in turn stops the cursor from fetching the next
+ * batch. The output is flushed every {@value #FLUSH_EVERY} expenses so buffered data never
+ * piles up.
+ * </p>
+ */
+@Service
+public class ExpenseExportService {
+
+  private static final int CURSOR_BATCH_SIZE = 500;
+
+  private static final int FLUSH_EVERY = 500;
+
+  private static final String CSV_HEADER =
+    "id,createAt,description,paidBy,totalAmount,splitMethod,splitAmong,items\n";
+
+  private final MongoTemplate mongoTemplate;
+
+  private final UtilGroupService utilGroupService;
+
+  private final ObjectWriter expenseWriter;
+
+  @Autowired
+  public ExpenseExportService(MongoTemplate mongoTemplate, UtilGroupService utilGroupService,
+                              ObjectMapper objectMapper) {
+    this.mongoTemplate = mongoTemplate;
+    this.utilGroupService = utilGroupService;
+    this.expenseWriter = objectMapper.writerFor(Expense.class);
+  }
+
+  /**
+   * Verifies that an export can be started, before any output is written.
+   *
+   * @param groupId the ID of the group to export
+   * @param format  the requested format
+   * @return the parsed export format
+   * @throws BillSyncClientException if the group does not exist or the format is not supported
+   */
+  public ExportFormatEnum prepareExport(String groupId, String format)
+    throws BillSyncClientException {
+    try {
+      ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format);
+      utilGroupService.checkIfGroupExist(groupId);
+      return exportFormat;
+    } catch (RecordNotFoundException e) {
+      throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
+    } catch (IllegalArgumentException e) {
+      throw new BillSyncClientException(e.getMessage(), e, HttpStatusCodeEnum.BAD_REQUEST);
+    }
+  }
+
+  /**
+   * Streams all expenses of a group, oldest first, to the given output.
+   *
+   * @param groupId the ID of the group to export
+   * @param format  the output format
+   * @param out     the stream to write to; it is flushed but not closed
+   * @throws IOException if writing to the output fails
+   */
+  public void export(String groupId, ExportFormatEnum format, OutputStream out)
+    throws IOException {
+    Query query = Query.query(Criteria.where("groupId").is(groupId))
+      .with(Sort.by(Sort.Direction.ASC, "createAt", "id"))
+      .cursorBatchSize(CURSOR_BATCH_SIZE);
+
+    if (format == ExportFormatEnum.CSV) {
+      out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+    }
+
+    try (Stream<Expense> expenses = mongoTemplate.stream(query, Expense.class)) {
+      Iterator<Expense> iterator = expenses.iterator();
+      int written = 0;
+      while (iterator.hasNext()) {
+        Expense expense = iterator.next();
+        if (format == ExportFormatEnum.CSV) {
+          out.write(toCsvRow(expense).getBytes(StandardCharsets.UTF_8));
+        } else {
+          out.write(expenseWriter.writeValueAsBytes(expense));
+          out.write('\n');
+        }
+        if (++written % FLUSH_EVERY == 0) {
+          out.flush();
+        }
+      }
+    }
+    out.flush();
+  }
+
+  private String toCsvRow(Expense expense) {
+    StringBuilder row = new StringBuilder(128);
+    appendCsv(row, expense.getId()).append(',');
+    appendCsv(row, expense.getCreateAt() != null ? expense.getCreateAt().toInstant().toString() : null)
+      .append(',');
+    appendCsv(row, sanitizeText(expense.getDescription())).append(',');
+    appendCsv(row, expense.getPaidBy()).append(',');
+    row.append(MoneyUtil.toMajorUnits(expense.getTotalAmount()).toPlainString()).append(',');
+    appendCsv(row, expense.getSplitMethod()).append(',');
+    appendCsv(row, expense.getSplitAmong() != null ? String.join("|", expense.getSplitAmong()) : null)
+      .append(',');
+    appendCsv(row, formatItems(expense.getItems())).append('\n');
+    return row.toString();
+  }
+
+  /**
+   * Formats itemized lines as {@code name (price): user1|user2; ...}.
+   */
+  private String formatItems(List<ExpenseItem> items) {
+    if (items == null || items.isEmpty()) {
+      return null;
+    }
+    StringBuilder formatted = new StringBuilder();
+    for (ExpenseItem item : items) {
+      if (!formatted.isEmpty()) {
+        formatted.append("; ");
+      }
+      formatted.append(item.getName())
+        .append(" (").append(MoneyUtil.toMajorUnits(item.getPrice()).toPlainString()).append("): ")
+        .append(item.getSharedAmong() != null ? String.join("|", item.getSharedAmong()) : "");
+    }
+    return sanitizeText(formatted.toString());
+  }
+
+  /**
+   * Appends a value as a CSV field, quoting it if it contains a separator, quote or line break.
+   */
+  private StringBuilder appendCsv(StringBuilder row, String value) {
+    if (value == null) {
+      return row;
+    }
+    boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+      || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+    if (!quote) {
+      return row.append(value);
+    }
+    return row.append('"').append(value.replace("\"", "\"\"")).append('"');
+  }
+
+  /**
+   * Prevents user-provided text from being interpreted as a formula by spreadsheet software.
+   * <p>
+   * Values starting with a formula character, a tab or a carriage return are prefixed with a
+   * single quote, as recommended by OWASP for CSV injection.
+   * </p>
+   */
+  private String sanitizeText(String value) {
+    if (value == null || value.isEmpty()) {
+      return value;
+    }
+    char first = value.charAt(0);
+    if (first == '=' || first == '+' || first == '-' || first == '@'
+      || first == '\t' || first == '\r') {
+      return "'" + value;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,116 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpensePage;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.service.group.UtilGroupService;
+import com.BillSyncOrg.BillSync.service.users.UserNameLoader;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service that pages through the expense history of a group, newest first.
+ * <p>
+ * Pages are fetched with keyset (seek) pagination on {@code (createAt, _id)}, see
+ * {@link ExpenseKeyset}: each page starts right after the last expense of the previous page
+ * instead of skipping over it, so every page is a bounded scan of the
+ * {@code (groupId, createAt, _id)} index no matter how long the history is.
+ * </p>
+ */
+@Service
+public class ExpenseHistoryService {
+
+  private final MongoTemplate mongoTemplate;
+
+  private final UtilGroupService utilGroupService;
+
+  private final UserNameLoader userNameLoader;
+
+  /**
+   * Page size used when the client does not ask for one.
+   */
+  @Value("${expenses.page.default-size:50}")
+  private int defaultPageSize;
+
+  /**
+   * Largest page size a client may ask for.
+   */
+  @Value("${expenses.page.max-size:200}")
+  private int maxPageSize;
+
+  @Autowired
+  public ExpenseHistoryService(MongoTemplate mongoTemplate, UtilGroupService utilGroupService,
+                               UserNameLoader userNameLoader) {
+    this.mongoTemplate = mongoTemplate;
+    this.utilGroupService = utilGroupService;
+    this.userNameLoader = userNameLoader;
+  }
+
+  /**
+   * Returns one page of a group's expenses, newest first.
+   *
+   * @param groupId the ID of the group
+   * @param after   the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit   the requested page size, or {@code null} for the default
+   * @param includeNames whether to resolve the names of all users referenced by the page
+   * @return the page of expenses and the cursor of the next page
+   * @throws BillSyncClientException if the group does not exist or the cursor or limit is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  public ExpensePage getExpenses(String groupId, String after, Integer limit,
+                                 boolean includeNames)
+    throws BillSyncClientException, BillSyncServerException {
+    int pageSize = ExpenseKeyset.pageSize(limit, defaultPageSize, maxPageSize);
+    ExpenseKeyset.Cursor cursor = ExpenseKeyset.parseCursor(after);
+
+    try {
+      utilGroupService.checkIfGroupExist(groupId);
+
+      ExpensePage page = ExpenseKeyset.page(
+        mongoTemplate.find(ExpenseKeyset.query(groupId, cursor, pageSize), Expense.class),
+        pageSize);
+      if (!includeNames) {
+        return page;
+      }
+      return new ExpensePage(page.getExpenses(), page.getNextCursor(),
+        userNameLoader.loadNames(referencedUserIds(page.getExpenses())));
+
+    } catch (RecordNotFoundException e) {
+      throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
+    } catch (RuntimeException e) {
+      throw new BillSyncServerException("Unable to retrieve expenses", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Collects the IDs of payers and participants of the given expenses.
+   */
+  private static Set<String> referencedUserIds(List<Expense> expenses) {
+    Set<String> userIds = new HashSet<>();
+    for (Expense expense : expenses) {
+      userIds.add(expense.getPaidBy());
+      if (expense.getSplitAmong() != null) {
+        userIds.addAll(expense.getSplitAmong());
+      }
+      if (expense.getItems() != null) {
+        for (ExpenseItem item : expense.getItems()) {
+          if (item.getSharedAmong() != null) {
+            userIds.addAll(item.getSharedAmong());
+          }
+        }
+      }
+    }
+    return userIds;
+  }
+}
@@ -0,0 +1,126 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpensePage;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination over the expenses of a group, newest first, shared by the blocking
+ * and reactive expense history.
+ * <p>
+ * Pages are ordered by {@code (createAt, _id)} descending. Each page starts right after the last
+ * expense of the previous page, so every page is a bounded scan of the
+ * {@code (groupId, createAt, _id)} index no matter how long the history is.
+ * </p>
+ */
+final class ExpenseKeyset {
+
+  private ExpenseKeyset() {
+  }
+
+  /**
+   * Validates the requested page size.
+   *
+   * @param limit       the requested page size, or {@code null} for the default
+   * @param defaultSize the page size used when none is requested
+   * @param maxSize     the largest allowed page size
+   * @return the page size to use
+   * @throws BillSyncClientException if the limit is out of range
+   */
+  static int pageSize(Integer limit, int defaultSize, int maxSize) throws BillSyncClientException {
+    int pageSize = limit != null ? limit : defaultSize;
+    if (pageSize < 1 || pageSize > maxSize) {
+      throw new BillSyncClientException("Limit must be between 1 and " + maxSize,
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    return pageSize;
+  }
+
+  /**
+   * Decodes the {@code nextCursor} of a previous page.
+   *
+   * @param after the cursor, or {@code null} or blank for the first page
+   * @return the decoded cursor, or {@code null} for the first page
+   * @throws BillSyncClientException if the cursor is malformed
+   */
+  static Cursor parseCursor(String after) throws BillSyncClientException {
+    if (after == null || after.isBlank()) {
+      return null;
+    }
+    try {
+      return Cursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      throw new BillSyncClientException("Invalid cursor", e, HttpStatusCodeEnum.BAD_REQUEST);
+    }
+  }
+
+  /**
+   * Builds the query of one page. One extra expense is fetched to tell whether another page
+   * follows.
+   *
+   * @param groupId  the ID of the group
+   * @param cursor   the position of the previous page, or {@code null} for the first page
+   * @param pageSize the page size
+   * @return the query
+   */
+  static Query query(String groupId, Cursor cursor, int pageSize) {
+    Criteria criteria = Criteria.where("groupId").is(groupId);
+    if (cursor != null) {
+      criteria = criteria.orOperator(
+        Criteria.where("createAt").lt(cursor.createAt()),
+        Criteria.where("createAt").is(cursor.createAt()).and("_id").lt(cursor.id()));
+    }
+    return Query.query(criteria)
+      .with(Sort.by(Sort.Direction.DESC, "createAt", "id"))
+      .limit(pageSize + 1);
+  }
+
+  /**
+   * Turns the result of {@link #query} into a page.
+   *
+   * @param expenses the fetched expenses, at most {@code pageSize + 1}
+   * @param pageSize the page size
+   * @return the page, with a cursor if another page follows
+   */
+  static ExpensePage page(List<Expense> expenses, int pageSize) {
+    String nextCursor = null;
+    if (expenses.size() > pageSize) {
+      expenses = expenses.subList(0, pageSize);
+      nextCursor = Cursor.encode(expenses.get(pageSize - 1));
+    }
+    return new ExpensePage(expenses, nextCursor);
+  }
+
+  /**
+   * Position of the last expense of a page, encoded as URL-safe Base64 of
+   * {@code <createAt millis>:<expense id>}.
+   */
+  record Cursor(Date createAt, ObjectId id) {
+
+    static String encode(Expense expense) {
+      String raw = expense.getCreateAt().getTime() + ":" + expense.getId();
+      return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String value) {
+      String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Malformed cursor");
+      }
+      return new Cursor(new Date(Long.parseLong(raw.substring(0, separator))),
+        new ObjectId(raw.substring(separator + 1)));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpensePage;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.repository.reactive.ReactiveExpenseRepository;
+import com.BillSyncOrg.BillSync.repository.reactive.ReactiveGroupRepository;
+import com.BillSyncOrg.BillSync.service.balances.ReactiveBalanceLedgerService;
+import com.BillSyncOrg.BillSync.service.group.SettlementService;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+
+/**
+ * Non-blocking counterpart of {@link AddExpenseService} for the {@code reactive} profile.
+ * <p>
+ * Adding an expense is one pipeline: group lookup, validation, expense insert and ledger
+ * update. Validation and the debt split are the same CPU-only code the blocking stack uses
+ * in {@link UtilExpenseService}; only the database calls differ.
+ * </p>
+ */
+@Service
+@Profile("reactive")
+public class ReactiveExpenseService {
+
+  private final ReactiveExpenseRepository expenseRepository;
+
+  private final ReactiveGroupRepository groupRepository;
+
+  private final ReactiveBalanceLedgerService balanceLedgerService;
+
+  private final UtilExpenseService utilExpenseService;
+
+  private final SettlementService settlementService;
+
+  private final ConditionalResponseCache responseCache;
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  /**
+   * Page size used when the client does not ask for one.
+   */
+  @Value("${expenses.page.default-size:50}")
+  private int defaultPageSize;
+
+  /**
+   * Largest page size a client may ask for.
+   */
+  @Value("${expenses.page.max-size:200}")
+  private int maxPageSize;
+
+  @Autowired
+  public ReactiveExpenseService(ReactiveExpenseRepository expenseRepository,
+                                ReactiveGroupRepository groupRepository,
+                                ReactiveBalanceLedgerService balanceLedgerService,
+                                UtilExpenseService utilExpenseService,
+                                SettlementService settlementService,
+                                ConditionalResponseCache responseCache,
+                                ReactiveMongoTemplate reactiveMongoTemplate) {
+    this.expenseRepository = expenseRepository;
+    this.groupRepository = groupRepository;
+    this.balanceLedgerService = balanceLedgerService;
+    this.utilExpenseService = utilExpenseService;
+    this.settlementService = settlementService;
+    this.responseCache = responseCache;
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+  }
+
+  /**
+   * Adds an expense to a group and applies its debts to the group ledger.
+   *
+   * @param request the expense to add
+   * @return the saved expense; fails with {@link BillSyncClientException} if the group does not
+   *         exist or the expense is invalid, and with {@link BillSyncServerException} otherwise
+   */
+  public Mono<Expense> addExpense(AddExpenseRequest request) {
+    return groupRepository.findById(request.getGroupId())
+      .switchIfEmpty(Mono.error(() ->
+        new RecordNotFoundException("Group not found", HttpStatusCodeEnum.BAD_REQUEST)))
+      .flatMap(group -> Mono.fromCallable(() -> utilExpenseService.buildExpense(request, group))
+        .flatMap(expenseRepository::save)
+        .flatMap(saved -> balanceLedgerService
+          .applyDeltas(group.getId(), utilExpenseService.computeDebtDeltas(saved, new HashMap<>()))
+          // Invalidating the response cache is a blocking MongoDB write.
+          .then(Mono.fromRunnable(() -> {
+            settlementService.invalidate(group.getId());
+            responseCache.invalidate(ConditionalResponseCache.group(group.getId()));
+          }).subscribeOn(Schedulers.boundedElastic()))
+          .thenReturn(saved)))
+      .onErrorMap(e -> toBillSyncException(e, "Unable to add expense"));
+  }
+
+  /**
+   * Returns one page of a group's expenses, newest first, with the same keyset pagination as
+   * {@link ExpenseHistoryService}.
+   *
+   * @param groupId the group ID
+   * @param after   the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit   the requested page size, or {@code null} for the default
+   * @return the page of expenses; fails with {@link BillSyncClientException} if the group does
+   *         not exist or the cursor or limit is invalid
+   */
+  public Mono<ExpensePage> getExpenses(String groupId, String after, Integer limit) {
+    int pageSize;
+    ExpenseKeyset.Cursor cursor;
+    try {
+      pageSize = ExpenseKeyset.pageSize(limit, defaultPageSize, maxPageSize);
+      cursor = ExpenseKeyset.parseCursor(after);
+    } catch (BillSyncClientException e) {
+      return Mono.error(e);
+    }
+
+    return groupRepository.existsById(groupId)
+      .flatMap(exists -> exists
+        ? reactiveMongoTemplate.find(ExpenseKeyset.query(groupId, cursor, pageSize), Expense.class)
+            .collectList()
+            .map(expenses -> ExpenseKeyset.page(expenses, pageSize))
+        : Mono.error(new RecordNotFoundException("Group not found", HttpStatusCodeEnum.BAD_REQUEST)))
+      .onErrorMap(e -> toBillSyncException(e, "Unable to fetch expenses"));
+  }
+
+  /**
+   * Maps errors the same way the blocking services do: client errors keep their message and
+   * status, anything unexpected becomes an internal server error.
+   */
+  private static Throwable toBillSyncException(Throwable e, String serverMessage) {
+    if (e instanceof BillSyncClientException clientException) {
+      return new BillSyncClientException(clientException.getMessage(),
+        clientException.getHttpStatusCode());
+    }
+    if (e instanceof BillSyncServerException) {
+      return e;
+    }
+    return new BillSyncServerException(serverMessage,
+      e instanceof Exception exception ? exception : new RuntimeException(e),
+      HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+  }
+}
@@ -1,80 +1,227 @@
 package com.BillSyncOrg.BillSync.service.expenses;
 
+import com.BillSyncOrg.BillSync.dto.balanceRecords.BalanceDiscrepancy;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.AddExpenseRequest;
 import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpenseItem;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.expenseExceptions.ItemizedExpenseValidationException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.expenseExceptions.UserForExpenseRecordNotPresentInGroup;
 import com.BillSyncOrg.BillSync.model.Expense;
 import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.service.balances.BalanceLedgerService;
+import com.BillSyncOrg.BillSync.service.group.SettlementService;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import com.BillSyncOrg.BillSync.util.enums.SplitMethodEnum;
+import com.BillSyncOrg.BillSync.util.money.MoneyUtil;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class UtilExpenseService {
 
+  private final BalanceLedgerService balanceLedgerService;
+
+  private final SettlementService settlementService;
+
+  @Autowired
+  public UtilExpenseService(BalanceLedgerService balanceLedgerService,
+                            SettlementService settlementService) {
+    this.balanceLedgerService = balanceLedgerService;
+    this.settlementService = settlementService;
+  }
+
+  /**
+   * Builds a new, not yet persisted expense from the request after validating it against the
+   * members of the group.
+   *
+   * @param request the expense creation request
+   * @param group   the group the expense belongs to
+   * @return the validated expense
+   * @throws UserForExpenseRecordNotPresentInGroup if the payer or a participant is not a member
+   * @throws ItemizedExpenseValidationException    if an itemized expense has no valid items
+   */
+  public Expense buildExpense(AddExpenseRequest request, Group group)
+    throws UserForExpenseRecordNotPresentInGroup, ItemizedExpenseValidationException {
+
+    if(!group.hasMember(request.getPaidBy())) {
+      throw new UserForExpenseRecordNotPresentInGroup("Paid by user not present in the group!",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+
+    Expense expense = new Expense();
+    expense.setGroupId(request.getGroupId());
+    expense.setDescription(request.getDescription());
+    expense.setPaidBy(request.getPaidBy());
+    expense.setTotalAmount(request.getTotalAmount());
+    expense.setSplitMethod(request.getSplitMethod());
+    expense.setCreateAt(new Date());
+
+    // Set embedded items for ITEMIZED split
+    if (request.getSplitMethod().equals(SplitMethodEnum.ITEMIZED.getValue())) {
+      List<ExpenseItem> items = request.getItems();
+      validateItemizedExpense(items, group);
+      expense.setItems(items);
+    }
+
+    // Set splitAmong for EQUAL split
+    if (request.getSplitMethod().equals(SplitMethodEnum.EQUAL.getValue())) {
+      List<String> splitAmong = request.getSplitAmong() != null ? request.getSplitAmong() : group.getUserId();
+      validateEqualExpense(splitAmong, group);
+      expense.setSplitAmong(splitAmong);
+    }
+
+    return expense;
+  }
+
+  /**
+   * Validates the items of an itemized expense against the members of the group.
+   * <p>
+   * Membership is checked against the hashed member view of the group, so validation is linear
+   * in the total number of item/sharer pairs. All users that are not members are collected
+   * and reported together.
+   * </p>
+   *
+   * @param items the items of the expense
+   * @param group the group the expense belongs to
+   * @return {@code true} if all items are valid
+   * @throws ItemizedExpenseValidationException    if there are no items or an item has no sharers
+   * @throws UserForExpenseRecordNotPresentInGroup if any sharer is not a member of the group
+   */
   public boolean validateItemizedExpense(List<ExpenseItem> items, Group group) throws ItemizedExpenseValidationException, UserForExpenseRecordNotPresentInGroup {
     if (items == null || items.isEmpty()) {
       throw new ItemizedExpenseValidationException("Itemized split must have items with sharedAmong",
         HttpStatusCodeEnum.BAD_REQUEST);
     }
     // Validate each item's sharedAmong is in group
+    Set<String> invalidUserIds = new LinkedHashSet<>();
     for (ExpenseItem item : items) {
       if (item.getSharedAmong() == null || item.getSharedAmong().isEmpty()) {
         throw new ItemizedExpenseValidationException("Each item must have at least one user sharing it",
           HttpStatusCodeEnum.BAD_REQUEST);
       }
       for (String userId : item.getSharedAmong()) {
-        if (!group.getUserId().contains(userId)) {
-          throw new UserForExpenseRecordNotPresentInGroup("User " + userId + " in item " + item.getName() + " is not in the group", HttpStatusCodeEnum.BAD_REQUEST);
+        if (!group.hasMember(userId)) {
+          invalidUserIds.add(userId);
         }
       }
     }
+    if (!invalidUserIds.isEmpty()) {
+      throw new UserForExpenseRecordNotPresentInGroup("Users " + invalidUserIds + " in items are " +
+        "not in the group", HttpStatusCodeEnum.BAD_REQUEST);
+    }
     return true;
   }
 
+  /**
+   * Validates the participants of an equally split expense against the members of the group.
+   * All users that are not members are collected and reported together.
+   *
+   * @param splitAmong the user IDs the expense is split among
+   * @param group      the group the expense belongs to
+   * @return {@code true} if all participants are members
+   * @throws UserForExpenseRecordNotPresentInGroup if any participant is not a member of the group
+   */
   public boolean validateEqualExpense(List<String> splitAmong, Group group) throws UserForExpenseRecordNotPresentInGroup {
     // Validate all users exist in group
+    Set<String> invalidUserIds = new LinkedHashSet<>();
     for (String userId : splitAmong) {
-      if (!group.getUserId().contains(userId)) {
-        throw new UserForExpenseRecordNotPresentInGroup("User " + userId + " in splitAmong is not in the " +
-          "group", HttpStatusCodeEnum.BAD_REQUEST);
+      if (!group.hasMember(userId)) {
+        invalidUserIds.add(userId);
       }
     }
+    if (!invalidUserIds.isEmpty()) {
+      throw new UserForExpenseRecordNotPresentInGroup("Users " + invalidUserIds + " in splitAmong " +
+        "are not in the group", HttpStatusCodeEnum.BAD_REQUEST);
+    }
     return true;
   }
 
   /**
-   * Updates the debts map of a group based on the newly added expense.
+   * Updates the debts of a group based on the newly added expense.
+   * <p>
+   * The debts live in the {@code balances} ledger. Every pair touched by the expense receives
+   * an atomic {@code $inc}, so concurrent expenses on the same group never overwrite each other
+   * and the group document itself is not written at all.
+   * </p>
    *
    * @param group   the group to update
    * @param expense the newly added expense
    */
   public void updateGroupDebts(Group group, Expense expense) {
-    Map<String, Map<String, Double>> debts = group.getDebts();
+    applyDebtDeltas(group.getId(), computeDebtDeltas(expense, new HashMap<>()));
+  }
 
+  /**
+   * Computes the debts produced by an expense and merges them into the given map.
+   * <p>
+   * Amounts are split in minor units with {@link MoneyUtil#split(long, int)}, so the shares of
+   * every split add up exactly to the split amount.
+   * </p>
+   *
+   * @param expense the expense to split
+   * @param deltas  the map to accumulate into, keyed by debtor and then creditor
+   * @return the same {@code deltas} map, for chaining
+   */
+  public Map<String, Map<String, Long>> computeDebtDeltas(Expense expense,
+                                                         Map<String, Map<String, Long>> deltas) {
     if (expense.getSplitMethod().equals(SplitMethodEnum.EQUAL.getValue())) {
-      double share = expense.getTotalAmount() / expense.getSplitAmong().size();
-      for (String userId : expense.getSplitAmong()) {
-        if (!userId.equals(expense.getPaidBy())) {
-          debts.computeIfAbsent(userId, k -> new java.util.HashMap<>())
-            .merge(expense.getPaidBy(), share, Double::sum);
-        }
-      }
+      addShares(deltas, expense.getPaidBy(), expense.getTotalAmount(), expense.getSplitAmong());
     } else { // ITEMIZED
       for (ExpenseItem item : expense.getItems()) {
-        double share = item.getPrice() / item.getSharedAmong().size();
-        for (String userId : item.getSharedAmong()) {
-          if (!userId.equals(expense.getPaidBy())) {
-            debts.computeIfAbsent(userId, k -> new java.util.HashMap<>())
-              .merge(expense.getPaidBy(), share, Double::sum);
-          }
-        }
+        addShares(deltas, expense.getPaidBy(), item.getPrice(), item.getSharedAmong());
+      }
+    }
+    return deltas;
+  }
+
+  private void addShares(Map<String, Map<String, Long>> deltas, String paidBy, long amount,
+                         List<String> participants) {
+    long[] shares = MoneyUtil.split(amount, participants.size());
+    for (int i = 0; i < shares.length; i++) {
+      String userId = participants.get(i);
+      if (!userId.equals(paidBy) && shares[i] != 0) {
+        deltas.computeIfAbsent(userId, k -> new HashMap<>()).merge(paidBy, shares[i], Long::sum);
       }
     }
   }
 
+  /**
+   * Applies accumulated debt changes to the ledger of a group with one bulk write
+   * and drops the cached settlement of that group.
+   *
+   * @param groupId the ID of the group to update
+   * @param deltas  debt changes keyed by debtor and then creditor
+   */
+  public void applyDebtDeltas(String groupId, Map<String, Map<String, Long>> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    balanceLedgerService.applyDeltas(groupId, deltas);
+    settlementService.invalidate(groupId);
+  }
+
+  /**
+   * Sets mismatched ledger pairs of a group to their expected amounts where they still hold the
+   * observed amounts, and drops the cached settlement of that group if any pair was corrected.
+   *
+   * @param groupId       the ID of the group to correct
+   * @param discrepancies the pairs to correct, with the observed and the expected amounts
+   * @return the number of pairs that were corrected
+   * @see BalanceLedgerService#correctAmounts(String, List)
+   */
+  public int correctDebts(String groupId, List<BalanceDiscrepancy> discrepancies) {
+    int corrected = balanceLedgerService.correctAmounts(groupId, discrepancies);
+    if (corrected > 0) {
+      settlementService.invalidate(groupId);
+    }
+    return corrected;
+  }
+
 }
@@ -4,6 +4,7 @@ import com.BillSyncOrg.BillSync.dto.groupRecords.CreateGroupRequest;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.groupExceptions.GroupNameNotUniqueException;
 import com.BillSyncOrg.BillSync.model.Group;
 import com.BillSyncOrg.BillSync.repository.GroupRepository;
 import com.BillSyncOrg.BillSync.service.userAuthentication.UserService;
@@ -13,13 +14,12 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Service class responsible for handling group creation logic.
  * <p>
- * This service validates and creates groups, initializes empty debts,
- * and ensures group names are unique.
+ * This service validates and creates groups and ensures group names are unique.
+ * Debts are kept in the separate balances ledger and start out empty.
  * </p>
  *
  * <p>Exceptions:</p>
@@ -58,14 +58,13 @@ public class CreateGroupService {
       Group group = new Group();
       group.setGroupName(createGroupRequest.getGroupName());
       group.setUserId(userIds);
-      group.setDebts(Map.of());
 
       return groupRepository.save(group);
     } catch (RecordNotFoundException e) {
       throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
     }
     catch (DuplicateKeyException e) {
-      throw new BillSyncClientException(
+      throw new GroupNameNotUniqueException(
         "Group name already exists, please provide unique name!",
         e,
         HttpStatusCodeEnum.BAD_REQUEST
@@ -0,0 +1,117 @@
+package com.BillSyncOrg.BillSync.service.group;
+
+import com.BillSyncOrg.BillSync.context.RequestContext;
+import com.BillSyncOrg.BillSync.dto.groupRecords.GroupPage;
+import com.BillSyncOrg.BillSync.dto.groupRecords.GroupSummary;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.service.balances.BalanceLedgerService;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service that lists the groups of the current user with the user's net balance in each.
+ * <p>
+ * Groups are found through the {@link Group#MEMBER_INDEX} index on {@code (userId, _id)} and
+ * paged with keyset pagination on {@code _id}, so every page is a bounded index scan. Only
+ * {@code _id} and {@code groupName} are read, never the member list. The balances of a whole
+ * page are then summed by a single aggregation over the ledger.
+ * </p>
+ */
+@Service
+public class MyGroupsService {
+
+  private final MongoTemplate mongoTemplate;
+
+  private final BalanceLedgerService balanceLedgerService;
+
+  /**
+   * Page size used when the client does not ask for one.
+   */
+  @Value("${groups.page.default-size:50}")
+  private int defaultPageSize;
+
+  /**
+   * Largest page size a client may ask for.
+   */
+  @Value("${groups.page.max-size:200}")
+  private int maxPageSize;
+
+  @Autowired
+  public MyGroupsService(MongoTemplate mongoTemplate, BalanceLedgerService balanceLedgerService) {
+    this.mongoTemplate = mongoTemplate;
+    this.balanceLedgerService = balanceLedgerService;
+  }
+
+  /**
+   * Returns one page of the current user's groups, ordered by group ID.
+   *
+   * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit the requested page size, or {@code null} for the default
+   * @return the groups with the user's net balance and the cursor of the next page
+   * @throws BillSyncClientException if no user is signed in or the cursor or limit is invalid
+   * @throws BillSyncServerException for unexpected errors
+   */
+  public GroupPage getMyGroups(String after, Integer limit)
+    throws BillSyncClientException, BillSyncServerException {
+    String userId = RequestContext.getUserId();
+    if (userId == null) {
+      throw new BillSyncClientException("Token is missing.", HttpStatusCodeEnum.UNAUTHORIZED);
+    }
+    int pageSize = limit != null ? limit : defaultPageSize;
+    if (pageSize < 1 || pageSize > maxPageSize) {
+      throw new BillSyncClientException("Limit must be between 1 and " + maxPageSize,
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    if (after != null && !after.isBlank() && !ObjectId.isValid(after)) {
+      throw new BillSyncClientException("Invalid cursor", HttpStatusCodeEnum.BAD_REQUEST);
+    }
+
+    try {
+      Criteria criteria = Criteria.where("userId").is(userId);
+      if (after != null && !after.isBlank()) {
+        criteria = criteria.and("_id").gt(new ObjectId(after));
+      }
+      Query query = Query.query(criteria)
+        .with(Sort.by(Sort.Direction.ASC, "id"))
+        .limit(pageSize + 1);
+      query.fields().include("_id", "groupName");
+      List<Group> groups = mongoTemplate.find(query, Group.class);
+
+      String nextCursor = null;
+      if (groups.size() > pageSize) {
+        groups = groups.subList(0, pageSize);
+        nextCursor = groups.get(pageSize - 1).getId();
+      }
+
+      List<String> groupIds = new ArrayList<>(groups.size());
+      for (Group group : groups) {
+        groupIds.add(group.getId());
+      }
+      Map<String, Long> balances = balanceLedgerService.getNetBalances(userId, groupIds);
+
+      List<GroupSummary> summaries = new ArrayList<>(groups.size());
+      for (Group group : groups) {
+        summaries.add(new GroupSummary(group.getId(), group.getGroupName(),
+          balances.getOrDefault(group.getId(), 0L)));
+      }
+      return new GroupPage(summaries, nextCursor);
+
+    } catch (RuntimeException e) {
+      throw new BillSyncServerException("Unable to retrieve groups", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+  }
+}
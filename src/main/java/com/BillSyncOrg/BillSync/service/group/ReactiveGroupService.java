@@ -0,0 +1,116 @@
+package com.BillSyncOrg.BillSync.service.group;
+
+import com.BillSyncOrg.BillSync.dto.groupRecords.CreateGroupRequest;
+import com.BillSyncOrg.BillSync.dto.groupRecords.SettlementTransfer;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.groupExceptions.GroupNameNotUniqueException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.repository.reactive.ReactiveGroupRepository;
+import com.BillSyncOrg.BillSync.service.balances.ReactiveBalanceLedgerService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserService;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link CreateGroupService} and {@link SettlementService} for the
+ * {@code reactive} profile.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveGroupService {
+
+  private final ReactiveGroupRepository groupRepository;
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  private final ReactiveBalanceLedgerService balanceLedgerService;
+
+  private final SettlementService settlementService;
+
+  @Autowired
+  public ReactiveGroupService(ReactiveGroupRepository groupRepository,
+                              ReactiveMongoTemplate reactiveMongoTemplate,
+                              ReactiveBalanceLedgerService balanceLedgerService,
+                              SettlementService settlementService) {
+    this.groupRepository = groupRepository;
+    this.reactiveMongoTemplate = reactiveMongoTemplate;
+    this.balanceLedgerService = balanceLedgerService;
+    this.settlementService = settlementService;
+  }
+
+  /**
+   * Creates a new group after verifying that all of its users exist.
+   * <p>
+   * Duplicate IDs are checked once, only the {@code _id} of each user is read, and missing users
+   * are reported with the same message as {@link UserService#checkAllUsersExists(List)}.
+   * </p>
+   *
+   * @param request DTO containing group name and optional user IDs
+   * @return the saved group; fails with {@link BillSyncClientException} if a user does not
+   *         exist or the name is taken
+   */
+  public Mono<Group> createGroup(CreateGroupRequest request) {
+    List<String> userIds = request.getUserIds();
+    Set<String> uniqueIds = userIds == null ? Set.of() : new LinkedHashSet<>(userIds);
+    Query existingUsers = Query.query(Criteria.where("_id").in(uniqueIds));
+    existingUsers.fields().include("_id");
+
+    Mono<Boolean> usersExist = uniqueIds.isEmpty()
+      ? Mono.just(true)
+      : reactiveMongoTemplate.find(existingUsers, User.class).collectList()
+        .flatMap(found -> Mono.fromCallable(() -> {
+          UserService.checkAllFound(uniqueIds, found);
+          return true;
+        }));
+
+    return usersExist
+      .flatMap(checked -> {
+        Group group = new Group();
+        group.setGroupName(request.getGroupName());
+        group.setUserId(userIds);
+        return groupRepository.save(group);
+      })
+      .onErrorMap(e -> {
+        if (e instanceof DuplicateKeyException duplicateKeyException) {
+          return new GroupNameNotUniqueException(
+            "Group name already exists, please provide unique name!", duplicateKeyException,
+            HttpStatusCodeEnum.BAD_REQUEST);
+        }
+        if (e instanceof BillSyncClientException clientException) {
+          return new BillSyncClientException(clientException.getMessage(),
+            clientException.getHttpStatusCode());
+        }
+        return new BillSyncServerException("Error occurred creating a group!",
+          e instanceof Exception exception ? exception : new RuntimeException(e),
+          HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+      });
+  }
+
+  /**
+   * Computes the minimal list of payments that settles all debts of a group.
+   *
+   * @param groupId the ID of the group
+   * @return the suggested transfers; fails with {@link BillSyncClientException} if the group
+   *         does not exist
+   */
+  public Mono<List<SettlementTransfer>> getSettlement(String groupId) {
+    return groupRepository.existsById(groupId)
+      .flatMap(exists -> exists
+        ? balanceLedgerService.getDebts(groupId).map(settlementService::simplifyDebts)
+        : Mono.error(new BillSyncClientException("Group not found",
+          HttpStatusCodeEnum.BAD_REQUEST)));
+  }
+}
@@ -0,0 +1,179 @@
+package com.BillSyncOrg.BillSync.service.group;
+
+import com.BillSyncOrg.BillSync.dto.groupRecords.SettlementTransfer;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.service.balances.BalanceLedgerService;
+import com.BillSyncOrg.BillSync.service.users.UserNameLoader;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.cache.LruCache;
+import com.BillSyncOrg.BillSync.util.cache.ResourceVersionStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Service that computes the minimal set of payments needed to settle up a group.
+ * <p>
+ * The pairwise debts of a group, read from the balances ledger, are first netted into a single
+ * balance per member. Members owed money (creditors) and members owing money (debtors) are then
+ * matched greedily, always pairing the largest creditor with the largest debtor, using two
+ * max-heaps. Every transfer settles at least one member, so a group of {@code n} members needs
+ * at most {@code n - 1} transfers and the matching runs in {@code O(n log n)}.
+ * </p>
+ *
+ * <p>
+ * Results are kept in a bounded LRU cache, each tagged with the version of the group in the
+ * {@link ResourceVersionStore} it was computed at. Every ledger write replaces that version
+ * through {@link ConditionalResponseCache#invalidate(String)}, so a result stops being served
+ * once the group's debts change: right away for writes through this instance, and within
+ * {@code http.response-cache.version-ttl-ms} for writes on other instances. A cache hit reads
+ * the version from memory while it is fresh. {@link #invalidate(String)} additionally drops the
+ * local entry right away.
+ * </p>
+ */
+@Service
+public class SettlementService {
+
+  private static final Comparator<MemberBalance> LARGEST_FIRST =
+    Comparator.comparingLong(MemberBalance::amount).reversed()
+      .thenComparing(MemberBalance::userId);
+
+  private final UtilGroupService utilGroupService;
+
+  private final BalanceLedgerService balanceLedgerService;
+
+  private final UserNameLoader userNameLoader;
+
+  private final ResourceVersionStore versionStore;
+
+  private final LruCache<String, CachedSettlement> settlements;
+
+  @Autowired
+  public SettlementService(UtilGroupService utilGroupService,
+                           BalanceLedgerService balanceLedgerService,
+                           UserNameLoader userNameLoader,
+                           ResourceVersionStore versionStore,
+                           @Value("${settlement.cache.max-entries:1000}") int maxEntries) {
+    this.utilGroupService = utilGroupService;
+    this.balanceLedgerService = balanceLedgerService;
+    this.userNameLoader = userNameLoader;
+    this.versionStore = versionStore;
+    this.settlements = new LruCache<>(maxEntries);
+  }
+
+  /**
+   * Returns the minimal list of transfers that settles all debts of the group.
+   *
+   * @param groupId the ID of the group
+   * @return the transfers, largest first; empty if the group is already settled
+   * @throws RecordNotFoundException if no group exists with the provided ID
+   */
+  public List<SettlementTransfer> getSettlement(String groupId) throws RecordNotFoundException {
+    // The version is read before the debts, so a write made in between leaves the entry stale
+    // under an outdated version rather than serving it.
+    String version = versionStore.current(ConditionalResponseCache.group(groupId));
+    CachedSettlement cached = settlements.get(groupId);
+    if (cached != null && cached.version().equals(version)) {
+      return cached.transfers();
+    }
+
+    utilGroupService.checkIfGroupExist(groupId);
+    List<SettlementTransfer> transfers =
+      List.copyOf(simplifyDebts(balanceLedgerService.getDebts(groupId)));
+    settlements.put(groupId, new CachedSettlement(version, transfers));
+    return transfers;
+  }
+
+  /**
+   * Returns copies of the given transfers with the names of both members filled in.
+   * <p>
+   * The transfers returned by {@link #getSettlement(String)} are shared through the cache, so
+   * they are copied rather than modified.
+   * </p>
+   *
+   * @param transfers the transfers to annotate
+   * @return the transfers with {@code fromName} and {@code toName} set where the user exists
+   * @throws BillSyncServerException if the names cannot be loaded
+   */
+  public List<SettlementTransfer> withNames(List<SettlementTransfer> transfers)
+    throws BillSyncServerException {
+    Set<String> userIds = new HashSet<>();
+    for (SettlementTransfer transfer : transfers) {
+      userIds.add(transfer.getFrom());
+      userIds.add(transfer.getTo());
+    }
+    Map<String, String> names = userNameLoader.loadNames(userIds);
+
+    List<SettlementTransfer> named = new ArrayList<>(transfers.size());
+    for (SettlementTransfer transfer : transfers) {
+      named.add(new SettlementTransfer(transfer.getFrom(), transfer.getTo(),
+        transfer.getAmount(), names.get(transfer.getFrom()), names.get(transfer.getTo())));
+    }
+    return named;
+  }
+
+  /**
+   * Drops the cached settlement of a group. Must be called whenever its debts change.
+   *
+   * @param groupId the ID of the group whose debts changed
+   */
+  public void invalidate(String groupId) {
+    settlements.remove(groupId);
+  }
+
+  /**
+   * Reduces pairwise debts to a minimal list of transfers.
+   *
+   * @param debts debts in minor units keyed by debtor and then creditor
+   * @return the transfers, largest first
+   */
+  public List<SettlementTransfer> simplifyDebts(Map<String, Map<String, Long>> debts) {
+    Map<String, Long> balances = new HashMap<>();
+    debts.forEach((debtor, creditors) -> creditors.forEach((creditor, amount) -> {
+      balances.merge(debtor, -amount, Long::sum);
+      balances.merge(creditor, amount, Long::sum);
+    }));
+
+    PriorityQueue<MemberBalance> creditors = new PriorityQueue<>(LARGEST_FIRST);
+    PriorityQueue<MemberBalance> debtors = new PriorityQueue<>(LARGEST_FIRST);
+    balances.forEach((userId, balance) -> {
+      if (balance > 0) {
+        creditors.add(new MemberBalance(userId, balance));
+      } else if (balance < 0) {
+        debtors.add(new MemberBalance(userId, -balance));
+      }
+    });
+
+    List<SettlementTransfer> transfers = new ArrayList<>();
+    while (!creditors.isEmpty() && !debtors.isEmpty()) {
+      MemberBalance creditor = creditors.poll();
+      MemberBalance debtor = debtors.poll();
+      long amount = Math.min(creditor.amount(), debtor.amount());
+      transfers.add(new SettlementTransfer(debtor.userId(), creditor.userId(), amount));
+
+      if (creditor.amount() > amount) {
+        creditors.add(new MemberBalance(creditor.userId(), creditor.amount() - amount));
+      }
+      if (debtor.amount() > amount) {
+        debtors.add(new MemberBalance(debtor.userId(), debtor.amount() - amount));
+      }
+    }
+    return transfers;
+  }
+
+  private record MemberBalance(String userId, long amount) {
+  }
+
+  private record CachedSettlement(String version, List<SettlementTransfer> transfers) {
+  }
+}
@@ -2,18 +2,24 @@ package com.BillSyncOrg.BillSync.service.group;
 
 import com.BillSyncOrg.BillSync.dto.groupRecords.UpdateGroupRequest;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
-import com.BillSyncOrg.BillSync.exceptions.clientExceptions.groupExceptions.GroupNameNotUniqueException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.groupExceptions.GroupNameNotUniqueException;
 import com.BillSyncOrg.BillSync.model.Group;
-import com.BillSyncOrg.BillSync.repository.GroupRepository;
 import com.BillSyncOrg.BillSync.service.userAuthentication.UserService;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service responsible for updating existing {@link Group} entities.
@@ -24,23 +30,28 @@ import java.util.stream.Collectors;
  *   <li>Adding new users to the group after verifying their existence</li>
  * </ul>
  *
- * It uses {@link UtilGroupService} for group existence and uniqueness checks,
- * {@link UserService} for user existence validation, and persists changes
- * using {@link GroupRepository}.
+ * It uses {@link UserService} for user existence validation and applies all changes with a
+ * single atomic {@code findAndModify}. New members are added with {@code $addToSet}, so the
+ * group is never read and rewritten as a whole, concurrent updates cannot drop each other's
+ * members, and the cost depends on the number of added users rather than the group size.
+ * Name uniqueness is enforced by the unique index on {@code groupName}. Every update
+ * invalidates the group's cached responses.
  */
 @Service
 public class UpdateGroupService {
 
-  private final GroupRepository groupRepository;
+  private final MongoTemplate mongoTemplate;
   private final UtilGroupService utilGroupService;
   private final UserService userService;
+  private final ConditionalResponseCache responseCache;
 
   @Autowired
-  public UpdateGroupService(GroupRepository groupRepository, UtilGroupService utilGroupService,
-                            UserService userService) {
-    this.groupRepository = groupRepository;
+  public UpdateGroupService(MongoTemplate mongoTemplate, UtilGroupService utilGroupService,
+                            UserService userService, ConditionalResponseCache responseCache) {
+    this.mongoTemplate = mongoTemplate;
     this.utilGroupService = utilGroupService;
     this.userService = userService;
+    this.responseCache = responseCache;
   }
 
   /**
@@ -69,26 +80,43 @@ public class UpdateGroupService {
     try {
 
       String groupId = request.getGroupId();
+      Update update = new Update();
 
-      // Validate group existence
-      Group group = utilGroupService.checkIfGroupExist(groupId);
-
-      // Update group name if provided and unique
-      if (!utilGroupService.checkIfGroupNameUnique(request)) {
-        group.setGroupName(request.getNewGroupName());
+      // Update group name if provided
+      String newGroupName = request.getNewGroupName();
+      if (newGroupName != null && !newGroupName.isBlank()) {
+        update.set("groupName", newGroupName);
       }
 
       // Add new users if they exist in the system
       if (userService.checkAllUsersExists(request.getAddUserIds())) {
-        List<String> updatedUsers = group.getUserId();
-        updatedUsers.addAll(request.getAddUserIds());
-        group.setUserId(updatedUsers.stream().distinct().collect(Collectors.toList()));
+        List<String> addUserIds = List.copyOf(new LinkedHashSet<>(request.getAddUserIds()));
+        update.addToSet("userId").each(addUserIds.toArray());
+      }
+
+      if (update.getUpdateObject().isEmpty()) {
+        return utilGroupService.checkIfGroupExist(groupId);
       }
 
-      return groupRepository.save(group);
+      Group group = mongoTemplate.findAndModify(
+        Query.query(Criteria.where("_id").is(groupId)),
+        update,
+        FindAndModifyOptions.options().returnNew(true),
+        Group.class);
+      if (group == null) {
+        throw new RecordNotFoundException("Group not found", HttpStatusCodeEnum.BAD_REQUEST);
+      }
+      responseCache.invalidate(ConditionalResponseCache.group(groupId));
+      return group;
 
-    } catch (RecordNotFoundException | GroupNameNotUniqueException e) {
+    } catch (RecordNotFoundException e) {
       throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
+    } catch (DuplicateKeyException e) {
+      throw new GroupNameNotUniqueException(
+        "New group name already exists, please choose a unique name",
+        e,
+        HttpStatusCodeEnum.BAD_REQUEST
+      );
     } catch (RuntimeException e) {
       throw new BillSyncServerException(
         "Error updating group",
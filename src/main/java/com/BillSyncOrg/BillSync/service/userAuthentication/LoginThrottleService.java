@@ -0,0 +1,75 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import com.BillSyncOrg.BillSync.util.throttle.StripedRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * Service throttling login and signup attempts before any password is hashed.
+ * <p>
+ * Logins are limited per identifier (email or phone number), which slows down guessing the
+ * password of one account, and per client IP, which slows down credential stuffing across
+ * many accounts. Signups are limited per client IP.
+ * </p>
+ */
+@Service
+public class LoginThrottleService {
+
+  private final StripedRateLimiter identifierLimiter;
+
+  private final StripedRateLimiter ipLimiter;
+
+  @Autowired
+  public LoginThrottleService(
+    @Value("${security.login-throttle.identifier.per-minute:10}") int identifierPerMinute,
+    @Value("${security.login-throttle.identifier.burst:5}") int identifierBurst,
+    @Value("${security.login-throttle.ip.per-minute:60}") int ipPerMinute,
+    @Value("${security.login-throttle.ip.burst:20}") int ipBurst,
+    @Value("${security.login-throttle.stripes:16384}") int stripes) {
+    this.identifierLimiter = new StripedRateLimiter(identifierPerMinute, identifierBurst, stripes);
+    this.ipLimiter = new StripedRateLimiter(ipPerMinute, ipBurst, stripes);
+  }
+
+  /**
+   * Takes a login attempt for an identifier and client IP.
+   *
+   * @param identifier the email or phone number used to log in
+   * @param clientIp   the address of the client
+   * @throws BillSyncClientException with {@link HttpStatusCodeEnum#TOO_MANY_REQUESTS} if either
+   *                                 is over its rate
+   */
+  public void checkLogin(String identifier, String clientIp) throws BillSyncClientException {
+    checkIp(clientIp);
+    if (identifier != null
+      && !identifierLimiter.tryAcquire(identifier.trim().toLowerCase(Locale.ROOT))) {
+      throw tooManyAttempts();
+    }
+  }
+
+  /**
+   * Takes a signup attempt for a client IP.
+   *
+   * @param clientIp the address of the client
+   * @throws BillSyncClientException with {@link HttpStatusCodeEnum#TOO_MANY_REQUESTS} if it is
+   *                                 over its rate
+   */
+  public void checkSignup(String clientIp) throws BillSyncClientException {
+    checkIp(clientIp);
+  }
+
+  private void checkIp(String clientIp) throws BillSyncClientException {
+    if (clientIp != null && !ipLimiter.tryAcquire(clientIp)) {
+      throw tooManyAttempts();
+    }
+  }
+
+  private static BillSyncClientException tooManyAttempts() {
+    return new BillSyncClientException("Too many attempts, please try again later.",
+      HttpStatusCodeEnum.TOO_MANY_REQUESTS);
+  }
+}
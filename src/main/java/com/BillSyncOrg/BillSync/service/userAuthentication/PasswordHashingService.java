@@ -0,0 +1,143 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service hashing and verifying passwords on a dedicated, bounded thread pool.
+ * <p>
+ * BCrypt is deliberately slow, so running it on request threads lets a burst of logins occupy
+ * every request thread and stall unrelated endpoints. Here it runs on
+ * {@code security.password-hashing.threads} threads (default: one per CPU) with a queue of
+ * {@code security.password-hashing.queue-capacity}, so a login burst only delays other logins.
+ * </p>
+ *
+ * <p>
+ * When the pool's queue is full, or hashing does not finish within
+ * {@code security.password-hashing.timeout-ms}, the request fails with
+ * {@link HttpStatusCodeEnum#SERVICE_UNAVAILABLE} so clients can retry later.
+ * </p>
+ */
+@Service
+public class PasswordHashingService {
+
+  private final BCryptPasswordEncoder passwordEncoder;
+
+  private final ExecutorService passwordHashingExecutor;
+
+  private final long timeoutMillis;
+
+  @Autowired
+  public PasswordHashingService(
+    BCryptPasswordEncoder passwordEncoder,
+    @Value("${security.password-hashing.threads:0}") int threads,
+    @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+    @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+    this(passwordEncoder, newExecutor(threads, queueCapacity), timeoutMillis);
+  }
+
+  /**
+   * Creates the service on the given executor.
+   *
+   * @param passwordEncoder         the encoder
+   * @param passwordHashingExecutor the executor running BCrypt
+   * @param timeoutMillis           how long a request waits for its hash
+   */
+  public PasswordHashingService(BCryptPasswordEncoder passwordEncoder,
+                                ExecutorService passwordHashingExecutor, long timeoutMillis) {
+    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Creates a fixed-size pool that rejects work once its queue is full.
+   *
+   * @param threads       the number of threads, or {@code 0} for one per CPU
+   * @param queueCapacity the maximum number of queued hashes
+   * @return the executor
+   */
+  public static ExecutorService newExecutor(int threads, int queueCapacity) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    passwordHashingExecutor.shutdown();
+  }
+
+  /**
+   * Hashes a raw password.
+   *
+   * @param rawPassword the password to hash
+   * @return the BCrypt hash
+   * @throws BillSyncServerException if the pool is saturated or hashing fails
+   */
+  public String encode(String rawPassword) throws BillSyncServerException {
+    return run(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Verifies a raw password against a stored hash.
+   *
+   * @param rawPassword     the password to verify
+   * @param encodedPassword the stored BCrypt hash
+   * @return {@code true} if the password matches
+   * @throws BillSyncServerException if the pool is saturated or hashing fails
+   */
+  public boolean matches(String rawPassword, String encodedPassword)
+    throws BillSyncServerException {
+    return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  private <T> T run(Callable<T> task) throws BillSyncServerException {
+    Future<T> future;
+    try {
+      future = passwordHashingExecutor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new BillSyncServerException("Too many requests, please try again later.", e,
+        HttpStatusCodeEnum.SERVICE_UNAVAILABLE);
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new BillSyncServerException("Too many requests, please try again later.", e,
+        HttpStatusCodeEnum.SERVICE_UNAVAILABLE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new BillSyncServerException("Password hashing interrupted!", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    } catch (ExecutionException e) {
+      throw new BillSyncServerException("Error while hashing the password!", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.model.BlacklistedToken;
+import com.BillSyncOrg.BillSync.repository.BlacklistedTokenRepository;
+import com.BillSyncOrg.BillSync.util.bloom.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service that decides whether a JWT has been blacklisted.
+ * <p>
+ * Logout revokes tokens by incrementing the user's token version, so no new tokens are
+ * blacklisted. This check only remains for tokens blacklisted before that change. Those entries
+ * carry no {@code expiresAt}; the TTL index on {@code blacklistedAt} drops each of them 30 days
+ * after it was blacklisted, when the token has expired anyway. Once the collection is empty,
+ * this check can be removed.
+ * </p>
+ *
+ * <p>
+ * A local {@link BloomFilter} of all blacklisted tokens answers the common case, a token that
+ * was never revoked, without touching the database. Only tokens the filter reports as possibly
+ * blacklisted are confirmed with a lookup on the unique {@code token} index. The filter is
+ * built at startup and rebuilt every {@code jwt.blacklist.rebuild-interval-ms}, so it shrinks
+ * as expired tokens are removed.
+ * </p>
+ */
+@Service
+public class TokenBlacklistService {
+
+  private final BlacklistedTokenRepository blacklistRepo;
+
+  @Value("${jwt.blacklist.expected-tokens:100000}")
+  private long expectedTokens;
+
+  @Value("${jwt.blacklist.false-positive-rate:0.01}")
+  private double falsePositiveRate;
+
+  /**
+   * The filter consulted by {@link #isBlacklisted(String)}.
+   */
+  private volatile BloomFilter filter;
+
+  @Autowired
+  public TokenBlacklistService(BlacklistedTokenRepository blacklistRepo) {
+    this.blacklistRepo = blacklistRepo;
+  }
+
+  /**
+   * Builds the filter from the stored blacklist. Runs at startup, before any request is
+   * served, and then periodically.
+   */
+  @PostConstruct
+  @Scheduled(initialDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}",
+    fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    BloomFilter next = new BloomFilter(Math.max(expectedTokens, blacklistRepo.count() * 2),
+      falsePositiveRate);
+    try (Stream<BlacklistedToken> tokens = blacklistRepo.streamAllTokens()) {
+      Iterator<BlacklistedToken> iterator = tokens.iterator();
+      while (iterator.hasNext()) {
+        next.put(iterator.next().getToken());
+      }
+    }
+    filter = next;
+  }
+
+  /**
+   * Checks whether a token has been blacklisted.
+   *
+   * @param token the JWT token string
+   * @return {@code true} if the token is blacklisted
+   */
+  public boolean isBlacklisted(String token) {
+    return filter.mightContain(token) && blacklistRepo.existsByToken(token);
+  }
+}
@@ -0,0 +1,55 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.service.users.UserNameLoader;
+import com.BillSyncOrg.BillSync.service.users.UserSearchIndex;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts deleted users from the {@link UserSessionCache}, so their tokens stop working
+ * immediately instead of when the cache entry expires, and from the {@link UserSearchIndex} and
+ * the {@link UserNameLoader} cache. Cached user directory responses are invalidated as well.
+ * <p>
+ * Only deletions by ID through Spring Data on this instance are seen here; anything else is
+ * covered by the cache TTL.
+ * </p>
+ */
+@Component
+public class UserDeletionListener extends AbstractMongoEventListener<User> {
+
+  private final UserSessionCache userSessionCache;
+
+  private final UserSearchIndex userSearchIndex;
+
+  private final UserNameLoader userNameLoader;
+
+  private final ConditionalResponseCache responseCache;
+
+  @Autowired
+  public UserDeletionListener(UserSessionCache userSessionCache,
+                              UserSearchIndex userSearchIndex,
+                              UserNameLoader userNameLoader,
+                              ConditionalResponseCache responseCache) {
+    this.userSessionCache = userSessionCache;
+    this.userSearchIndex = userSearchIndex;
+    this.userNameLoader = userNameLoader;
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  public void onAfterDelete(AfterDeleteEvent<User> event) {
+    Document query = event.getSource();
+    Object id = query.get("_id");
+    if (id != null) {
+      userSessionCache.invalidate(id.toString());
+      userSearchIndex.remove(id.toString());
+      userNameLoader.evict(id.toString());
+      responseCache.invalidate(ConditionalResponseCache.USERS);
+    }
+  }
+}
@@ -7,23 +7,26 @@ import com.BillSyncOrg.BillSync.dto.userAuthentication.SignInResponse;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.UserSignInClientException;
-import com.BillSyncOrg.BillSync.exceptions.clientExceptions.UserSignupClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.JWTException;
-import com.BillSyncOrg.BillSync.model.BlacklistedToken;
-import com.BillSyncOrg.BillSync.repository.BlacklistedTokenRepository;
+import com.BillSyncOrg.BillSync.service.users.UserSearchIndex;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import com.BillSyncOrg.BillSync.dto.userAuthentication.SignupRequest;
 import com.BillSyncOrg.BillSync.model.User;
 import com.BillSyncOrg.BillSync.repository.UserRepository;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class that handles business logic related to user registration.
@@ -39,9 +42,14 @@ import java.util.List;
 @Service
 public class UserService {
 
+  private static final int MAX_REPORTED_IDS = 20;
+
   private final UserRepository userRepository;
-  private final BCryptPasswordEncoder passwordEncoder;
-  private final BlacklistedTokenRepository blacklistRepo;
+  private final PasswordHashingService passwordHashingService;
+  private final LoginThrottleService loginThrottleService;
+  private final UserSearchIndex userSearchIndex;
+  private final UserSessionCache userSessionCache;
+  private final ConditionalResponseCache responseCache;
   private final JwtUtil jwtUtil;
 
   /**
@@ -50,62 +58,93 @@ public class UserService {
    * @param userRepository the repository used to persist and fetch user data
    */
   @Autowired
-  public UserService(UserRepository userRepository, JwtUtil jwtUtil, BlacklistedTokenRepository blacklistRepo) {
+  public UserService(UserRepository userRepository, JwtUtil jwtUtil,
+                     UserSessionCache userSessionCache,
+                     PasswordHashingService passwordHashingService,
+                     LoginThrottleService loginThrottleService,
+                     UserSearchIndex userSearchIndex,
+                     ConditionalResponseCache responseCache) {
     this.userRepository = userRepository;
-    this.blacklistRepo = blacklistRepo;
-    this.passwordEncoder = new BCryptPasswordEncoder();
+    this.userSessionCache = userSessionCache;
+    this.passwordHashingService = passwordHashingService;
+    this.loginThrottleService = loginThrottleService;
+    this.userSearchIndex = userSearchIndex;
+    this.responseCache = responseCache;
     this.jwtUtil = jwtUtil;
   }
 
   /**
    * Registers a new user in the system.
    * <p>
-   * Validates that the email and phone number are not already in use.
-   * Encrypts the password before persisting to the database.
+   * Encrypts the password and inserts the user. Uniqueness of the email and phone number is
+   * enforced by unique indexes, so concurrent signups cannot create duplicates.
    * </p>
    *
-   * @param request the DTO containing user sign-up data
+   * @param request  the DTO containing user sign-up data
+   * @param clientIp the address of the client, used for throttling
    * @return the created {@link User} object
-   * @throws BillSyncClientException if the email or phone number already exists
+   * @throws BillSyncClientException if the email or phone number already exists or the client
+   *                                 is throttled
    * @throws BillSyncServerException if there is an internal server error
    */
-  public User registerUser(SignupRequest request) throws BillSyncClientException, BillSyncServerException {
+  public User registerUser(SignupRequest request, String clientIp)
+    throws BillSyncClientException, BillSyncServerException {
+    loginThrottleService.checkSignup(clientIp);
     try {
-      if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-        throw new UserSignupClientException("Email already in use", HttpStatusCodeEnum.BAD_REQUEST);
-      }
-
-      if (userRepository.findByPhoneNumber(request.getPhoneNumber()).isPresent()) {
-        throw new UserSignupClientException("Phone number already in use", HttpStatusCodeEnum.BAD_REQUEST);
-      }
-
       User user = new User();
       user.setName(request.getName());
       user.setEmail(request.getEmail());
       user.setPhoneNumber(request.getPhoneNumber());
-      user.setPassword(passwordEncoder.encode(request.getPassword()));
+      user.setPassword(passwordHashingService.encode(request.getPassword()));
 
-      return userRepository.save(user);
-    } catch (UserSignupClientException e) {
-      throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
+      User savedUser = userRepository.insert(user);
+      userSearchIndex.add(savedUser);
+      responseCache.invalidate(ConditionalResponseCache.USERS);
+      return savedUser;
+    } catch (DuplicateKeyException e) {
+      throw new BillSyncClientException(duplicateFieldMessage(e), e, HttpStatusCodeEnum.BAD_REQUEST);
+    } catch (BillSyncServerException e) {
+      throw e;
     } catch (Exception e) {
       throw new BillSyncServerException("Error while registering the user!", e, HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
     }
   }
 
+  /**
+   * Maps a signup duplicate key error to the message for the field that is already in use.
+   *
+   * @param e the duplicate key error raised by the unique indexes on {@link User}
+   * @return the client error message
+   */
+  private static String duplicateFieldMessage(DuplicateKeyException e) {
+    String message = String.valueOf(e.getMessage());
+    if (message.contains(User.PHONE_NUMBER_INDEX)) {
+      return "Phone number already in use";
+    }
+    if (message.contains(User.EMAIL_INDEX)) {
+      return "Email already in use";
+    }
+    return "Email or phone number already in use";
+  }
+
   /**
    * Authenticates a user using either email or phone number and issues a JWT on success.
    * @param SignInRequest the login credentials provided by the user
+   * @param clientIp      the address of the client, used for throttling
    * @return a {@link SignInResponse} containing the generated JWT
    * @throws UserSignInClientException if no matching user is found or if the password is incorrect
    */
-  public SignInResponse SignInUser(SignInRequest SignInRequest) throws BillSyncClientException, BillSyncServerException {
+  public SignInResponse SignInUser(SignInRequest SignInRequest, String clientIp)
+    throws BillSyncClientException, BillSyncServerException {
+    boolean byEmail = SignInRequest.getEmail() != null && !SignInRequest.getEmail().isBlank();
+    loginThrottleService.checkLogin(
+      byEmail ? SignInRequest.getEmail() : SignInRequest.getPhoneNumber(), clientIp);
     try {
       String password = SignInRequest.getPassword();
 
       User user;
 
-      if (SignInRequest.getEmail() != null && !SignInRequest.getEmail().isBlank()) {
+      if (byEmail) {
         user = userRepository.findByEmail(SignInRequest.getEmail())
           .orElseThrow(() -> new UserSignInClientException("Invalid email/phone or password!", HttpStatusCodeEnum.BAD_REQUEST));
       } else {
@@ -113,26 +152,29 @@ public class UserService {
           .orElseThrow(() -> new UserSignInClientException("Invalid email/phone or password!", HttpStatusCodeEnum.BAD_REQUEST));
       }
 
-      if (!passwordEncoder.matches(password, user.getPassword())) {
+      if (!passwordHashingService.matches(password, user.getPassword())) {
         throw new UserSignInClientException("Invalid email/phone or password!", HttpStatusCodeEnum.BAD_REQUEST);
       }
 
-      String token = jwtUtil.generateToken(user.getId());
-      user.setCurrentToken(token);
-      userRepository.save(user); // Update user with new token
+      String token = jwtUtil.generateToken(user.getId(), user.getTokenVersion());
+      // Only the token is written, so a concurrent logout's version increment is not overwritten.
+      userRepository.updateCurrentTokenById(user.getId(), token);
 
       return new SignInResponse(token);
     } catch (UserSignInClientException e) {
       throw new BillSyncClientException(e.getMessage(), e.getHttpStatusCode());
     } catch (JWTException e) {
       throw new BillSyncServerException(e.getMessage(), e.getHttpStatusCode());
+    } catch (BillSyncServerException e) {
+      throw e;
     } catch (Exception e) {
       throw new BillSyncServerException("Error while user login!", e, HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
     }
   }
 
   /**
-   * Logs out the user by blacklisting their JWT token.
+   * Logs out the user everywhere by incrementing their token version, which revokes every token
+   * issued to them so far.
    *
    * @param request the httpRequest to get header values.
    * @throws BillSyncServerException if token or userId is missing.
@@ -147,8 +189,8 @@ public class UserService {
         throw new JWTException("Token is missing.", HttpStatusCodeEnum.UNAUTHORIZED);
       }
 
-      BlacklistedToken blacklistedToken = new BlacklistedToken(token);
-      blacklistRepo.save(blacklistedToken);
+      userRepository.incrementTokenVersionById(userId);
+      userSessionCache.invalidate(userId);
     } catch (JWTException e) {
       throw new BillSyncServerException(e.getMessage(), e.getHttpStatusCode());
     }
@@ -162,6 +204,11 @@ public class UserService {
    * a {@link RecordNotFoundException} is thrown.
    * </p>
    *
+   * <p>
+   * Duplicate IDs are checked once, and only the {@code _id} of each user is read from the
+   * database. The exception message lists the missing IDs.
+   * </p>
+   *
    * <p><b>Validation rules:</b></p>
    * <ul>
    *   <li>If {@code userIds} is {@code null} or empty, the method returns {@code true} without validation.</li>
@@ -176,14 +223,39 @@ public class UserService {
    */
   public boolean checkAllUsersExists (List<String> userIds) throws RecordNotFoundException {
     if (userIds !=null && !userIds.isEmpty()) {
-      List<User> existingUsers = userRepository.findByIdIn(userIds);
-
-      if(existingUsers.size() != userIds.size()) {
-        throw new RecordNotFoundException("One or more users do not exist",
-          HttpStatusCodeEnum.BAD_REQUEST);
-      }
+      Set<String> uniqueIds = new LinkedHashSet<>(userIds);
+      checkAllFound(uniqueIds, userRepository.findIdsByIdIn(uniqueIds));
       return true;
     }
     return false;
   }
+
+  /**
+   * Checks that every requested user was found, shared by the blocking and reactive paths.
+   *
+   * @param userIds the requested user IDs, without duplicates
+   * @param found   the users read for those IDs; only their IDs are used
+   * @throws RecordNotFoundException listing the IDs that were not found, if any
+   */
+  public static void checkAllFound(Set<String> userIds, Iterable<User> found)
+    throws RecordNotFoundException {
+    Set<String> missing = new LinkedHashSet<>(userIds);
+    for (User user : found) {
+      missing.remove(user.getId());
+    }
+
+    if (!missing.isEmpty()) {
+      throw new RecordNotFoundException("Users do not exist: " + describeIds(missing),
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+  }
+
+  /**
+   * Joins IDs for an error message, listing at most {@link #MAX_REPORTED_IDS} of them.
+   */
+  private static String describeIds(Collection<String> ids) {
+    String listed = ids.stream().limit(MAX_REPORTED_IDS).collect(Collectors.joining(", "));
+    int more = ids.size() - MAX_REPORTED_IDS;
+    return more > 0 ? listed + " and " + more + " more" : listed;
+  }
 }
@@ -0,0 +1,117 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.dto.userAuthentication.UserSessionCacheStats;
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.repository.UserRepository;
+import com.BillSyncOrg.BillSync.util.cache.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the current token version of each active user, consulted by the authentication
+ * filter.
+ * <p>
+ * A token is valid only while the version it carries matches the user's current version, so a
+ * revocation check is a single map lookup. A version read from the database is remembered for
+ * {@code users.session-cache.ttl-ms}, so a client sending requests with the same token is
+ * authenticated without a database round trip. Entries are evicted when the user logs out or
+ * is deleted through this instance. Unknown users are never cached.
+ * </p>
+ *
+ * <p>
+ * A version read from the database is only kept if no {@link #invalidate(String)} ran while it
+ * was being read, so a logout racing with a cache miss cannot put the revoked version back.
+ * </p>
+ *
+ * <p>
+ * Other instances are not notified: a token revoked on one instance is still accepted by the
+ * others until their entry for the user expires, i.e. for at most
+ * {@code users.session-cache.ttl-ms}. Lower it to shorten that window at the cost of more
+ * database reads.
+ * </p>
+ */
+@Service
+public class UserSessionCache {
+
+  private final UserRepository userRepository;
+
+  private final LruCache<String, Session> sessions;
+
+  private final long ttlMillis;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Number of invalidations so far, used to detect one running during a database read.
+   */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /**
+   * Token version of a user together with the time the entry expires, in epoch milliseconds.
+   */
+  private record Session(long tokenVersion, long expiresAtMillis) {}
+
+  @Autowired
+  public UserSessionCache(UserRepository userRepository,
+                          @Value("${users.session-cache.max-size:100000}") int maxSize,
+                          @Value("${users.session-cache.ttl-ms:60000}") long ttlMillis) {
+    this.userRepository = userRepository;
+    this.sessions = new LruCache<>(maxSize);
+    this.ttlMillis = ttlMillis;
+  }
+
+  /**
+   * Returns the current token version of a user, using the cache when possible.
+   *
+   * @param userId the user ID
+   * @return the token version, or {@code null} if the user does not exist
+   */
+  public Long getTokenVersion(String userId) {
+    long now = System.currentTimeMillis();
+    Session session = sessions.get(userId);
+    if (session != null && now < session.expiresAtMillis()) {
+      hits.increment();
+      return session.tokenVersion();
+    }
+
+    misses.increment();
+    long invalidationsBefore = invalidations.get();
+    Optional<User> user = userRepository.findTokenVersionById(userId);
+    if (user.isEmpty()) {
+      sessions.remove(userId);
+      return null;
+    }
+    long tokenVersion = user.get().getTokenVersion();
+    sessions.put(userId, new Session(tokenVersion, now + ttlMillis));
+    // An invalidation counted after this check removes the entry itself, since it counts
+    // before removing.
+    if (invalidations.get() != invalidationsBefore) {
+      sessions.remove(userId);
+    }
+    return tokenVersion;
+  }
+
+  /**
+   * Evicts a user, so the next request from them is checked against the database.
+   *
+   * @param userId the user ID
+   */
+  public void invalidate(String userId) {
+    invalidations.incrementAndGet();
+    sessions.remove(userId);
+  }
+
+  /**
+   * @return the current hit and miss counters
+   */
+  public UserSessionCacheStats getStats() {
+    return new UserSessionCacheStats(hits.sum(), misses.sum(), sessions.size());
+  }
+}
@@ -1,6 +1,9 @@
 package com.BillSyncOrg.BillSync.service.users;
 
 import com.BillSyncOrg.BillSync.dto.userRecords.FindUserRequest;
+import com.BillSyncOrg.BillSync.dto.userRecords.ResolveNamesRequest;
+import com.BillSyncOrg.BillSync.dto.userRecords.UserPage;
+import com.BillSyncOrg.BillSync.dto.userRecords.UserSummary;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
 import com.BillSyncOrg.BillSync.exceptions.clientExceptions.RecordNotFoundException;
@@ -8,10 +11,25 @@ import com.BillSyncOrg.BillSync.model.User;
 import com.BillSyncOrg.BillSync.projection.allUsers.UserIDNameProjection;
 import com.BillSyncOrg.BillSync.repository.UserRepository;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class responsible for retrieving user records from the MongoDB database.
@@ -33,8 +51,8 @@ import java.util.List;
  * private AllUsersService allUsersService;
  *
  * public void printAllUsers() {
- *     List<User> users = allUsersService.getAllUsers();
- *     users.forEach(System.out::println);
+ *     UserPage page = allUsersService.getAllUsers(null, 100);
+ *     page.getUsers().forEach(user -> System.out.println(user.getName()));
  * }
  * }
  * </pre>
@@ -48,33 +66,113 @@ import java.util.List;
 @Service
 public class AllUsersService {
 
+  private static final int CURSOR_BATCH_SIZE = 500;
+
+  private static final int FLUSH_EVERY = 500;
+
   private final UserRepository userRepository;
 
+  private final MongoTemplate mongoTemplate;
+
+  private final ObjectWriter summaryWriter;
+
+  private final UserSearchIndex userSearchIndex;
+
+  private final UserNameLoader userNameLoader;
+
+  /**
+   * Largest number of IDs accepted by {@link #resolveNames(ResolveNamesRequest)}.
+   */
+  @Value("${users.names.max-ids:5000}")
+  private int maxResolveIds;
+
+  /**
+   * Shortest query answered by {@link #searchUsers(String, Integer)}.
+   */
+  @Value("${users.search.min-length:2}")
+  private int minSearchLength;
+
+  /**
+   * Largest number of results a client may ask for from {@link #searchUsers(String, Integer)}.
+   */
+  @Value("${users.search.max-results:20}")
+  private int maxSearchResults;
+
+  /**
+   * Page size used when the client does not ask for one.
+   */
+  @Value("${users.page.default-size:100}")
+  private int defaultPageSize;
+
+  /**
+   * Largest page size a client may ask for.
+   */
+  @Value("${users.page.max-size:1000}")
+  private int maxPageSize;
+
   /**
    * Constructs a new {@code AllUsersService} with the specified {@link UserRepository}.
    *
    * @param userRepository the repository interface for accessing user data from MongoDB
+   * @param mongoTemplate  the template used for paged and streamed directory queries
+   * @param objectMapper   the mapper used to serialize streamed users
+   * @param userSearchIndex the in-memory index used for typeahead search
+   * @param userNameLoader  the batching loader used to resolve user names
    */
   @Autowired
-  public AllUsersService(UserRepository userRepository) {
+  public AllUsersService(UserRepository userRepository, MongoTemplate mongoTemplate,
+                         ObjectMapper objectMapper, UserSearchIndex userSearchIndex,
+                         UserNameLoader userNameLoader) {
     this.userRepository = userRepository;
+    this.mongoTemplate = mongoTemplate;
+    this.summaryWriter = objectMapper.writerFor(UserSummary.class);
+    this.userSearchIndex = userSearchIndex;
+    this.userNameLoader = userNameLoader;
   }
 
   /**
-   * Retrieves all {@link User} records from the MongoDB database.
+   * Returns one page of the user directory, ordered by user ID.
    * <p>
-   * This method delegates the call to {@link UserRepository#findAll()} to fetch all user
-   * entities. In case of any exceptions (e.g., connectivity issues, query errors), it wraps
-   * the original exception inside a {@link BillSyncServerException} and assigns the HTTP
-   * status code {@link HttpStatusCodeEnum#INTERNAL_SERVER_ERROR}.
+   * Pages are fetched with keyset pagination on {@code _id}: each page starts right after the
+   * last user of the previous page, so every page is a bounded scan of the {@code _id} index
+   * no matter how many users there are. Only {@code _id} and {@code name} are read.
    * </p>
    *
-   * @return a {@link List} of {@link User} objects representing all users stored in the database
+   * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page
+   * @param limit the requested page size, or {@code null} for the default
+   * @return the page of users and the cursor of the next page
+   * @throws BillSyncClientException if the cursor or limit is invalid
    * @throws BillSyncServerException if any error occurs during database access
    */
-  public List<UserIDNameProjection> getAllUsers() throws BillSyncServerException {
+  public UserPage getAllUsers(String after, Integer limit)
+    throws BillSyncClientException, BillSyncServerException {
+    int pageSize = limit != null ? limit : defaultPageSize;
+    if (pageSize < 1 || pageSize > maxPageSize) {
+      throw new BillSyncClientException("Limit must be between 1 and " + maxPageSize,
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    if (after != null && !after.isBlank() && !ObjectId.isValid(after)) {
+      throw new BillSyncClientException("Invalid cursor", HttpStatusCodeEnum.BAD_REQUEST);
+    }
+
     try {
-      return userRepository.findAllIDAndName();
+      Query query = idAndNameQuery()
+        .with(Sort.by(Sort.Direction.ASC, "id"))
+        .limit(pageSize + 1);
+      if (after != null && !after.isBlank()) {
+        query.addCriteria(Criteria.where("_id").gt(new ObjectId(after)));
+      }
+
+      List<UserSummary> users = mongoTemplate.find(query, User.class).stream()
+        .map(user -> new UserSummary(user.getId(), user.getName()))
+        .collect(Collectors.toCollection(ArrayList::new));
+
+      String nextCursor = null;
+      if (users.size() > pageSize) {
+        users = users.subList(0, pageSize);
+        nextCursor = users.get(pageSize - 1).getId();
+      }
+      return new UserPage(users, nextCursor);
     } catch (Exception e) {
       throw new BillSyncServerException(
         "Error while retrieving all user records!",
@@ -84,6 +182,100 @@ public class AllUsersService {
     }
   }
 
+  /**
+   * Streams the whole user directory, ordered by user ID, as newline-delimited JSON objects
+   * with {@code id} and {@code name}.
+   * <p>
+   * Users are read from a MongoDB cursor in batches and written one at a time, so memory use
+   * stays constant regardless of the number of users.
+   * </p>
+   *
+   * @param out the stream to write to; it is flushed but not closed
+   * @throws IOException if writing to the output fails
+   */
+  public void streamAllUsers(OutputStream out) throws IOException {
+    Query query = idAndNameQuery()
+      .with(Sort.by(Sort.Direction.ASC, "id"))
+      .cursorBatchSize(CURSOR_BATCH_SIZE);
+
+    try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+      Iterator<User> iterator = users.iterator();
+      int written = 0;
+      while (iterator.hasNext()) {
+        User user = iterator.next();
+        out.write(summaryWriter.writeValueAsBytes(new UserSummary(user.getId(), user.getName())));
+        out.write('\n');
+        if (++written % FLUSH_EVERY == 0) {
+          out.flush();
+        }
+      }
+    }
+    out.flush();
+  }
+
+  private static Query idAndNameQuery() {
+    Query query = new Query();
+    query.fields().include("_id", "name");
+    return query;
+  }
+
+  /**
+   * Finds users whose name, any word of their name, email or phone number starts with the
+   * given text, for typeahead when adding group members.
+   * <p>
+   * Served from the in-memory {@link UserSearchIndex}, so no database query is made.
+   * </p>
+   *
+   * @param query the text typed so far
+   * @param limit the maximum number of results, or {@code null} for the maximum allowed
+   * @return the matching users' IDs and names
+   * @throws BillSyncClientException if the query is too short or the limit is invalid
+   */
+  public List<UserSummary> searchUsers(String query, Integer limit)
+    throws BillSyncClientException {
+    int maxResults = limit != null ? limit : maxSearchResults;
+    if (maxResults < 1 || maxResults > maxSearchResults) {
+      throw new BillSyncClientException("Limit must be between 1 and " + maxSearchResults,
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    if (query == null || query.trim().length() < minSearchLength) {
+      throw new BillSyncClientException(
+        "Search text must be at least " + minSearchLength + " characters",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    return userSearchIndex.search(query, maxResults);
+  }
+
+  /**
+   * Resolves a list of user IDs to names.
+   * <p>
+   * Names are read through the {@link UserNameLoader}, so concurrent requests share a single
+   * database query and recently seen users are not read again.
+   * </p>
+   *
+   * @param request the IDs to resolve
+   * @return the ID and name of every known user, in the order requested; unknown IDs are left out
+   * @throws BillSyncClientException if no IDs or too many IDs are given
+   * @throws BillSyncServerException if the names cannot be loaded
+   */
+  public List<UserSummary> resolveNames(ResolveNamesRequest request)
+    throws BillSyncClientException, BillSyncServerException {
+    List<String> userIds = request.getUserIds();
+    if (userIds == null || userIds.isEmpty()) {
+      throw new BillSyncClientException("Please provide at least one user ID",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+    if (userIds.size() > maxResolveIds) {
+      throw new BillSyncClientException("At most " + maxResolveIds + " user IDs can be resolved",
+        HttpStatusCodeEnum.BAD_REQUEST);
+    }
+
+    Map<String, String> names = userNameLoader.loadNames(userIds);
+    List<UserSummary> users = new ArrayList<>(names.size());
+    names.forEach((id, name) -> users.add(new UserSummary(id, name)));
+    return users;
+  }
+
   /**
    * Searches for a user by email or phone number and returns only id and name.
    *
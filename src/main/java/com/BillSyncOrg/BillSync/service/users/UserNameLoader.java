@@ -0,0 +1,209 @@
+package com.BillSyncOrg.BillSync.service.users;
+
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.util.cache.LruCache;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Resolves user IDs to names in batches, in the style of a DataLoader.
+ * <p>
+ * Names are served from a bounded LRU cache when possible. IDs that are not cached are queued,
+ * and all IDs queued by concurrent callers within {@code users.names.batch-window-ms} are
+ * loaded with a single {@code $in} query that reads only {@code _id} and {@code name}. A caller
+ * asking for an ID that is already being loaded waits for that load instead of queueing it
+ * again, so each ID is fetched at most once per batch no matter how many requests need it.
+ * </p>
+ */
+@Service
+public class UserNameLoader {
+
+  private static final int MAX_IDS_PER_QUERY = 1000;
+
+  private final MongoTemplate mongoTemplate;
+
+  private final LruCache<String, String> names;
+
+  private final long batchWindowMillis;
+
+  private final long timeoutMillis;
+
+  /**
+   * Loads in progress or queued, keyed by user ID. Completed with {@code null} for unknown IDs.
+   */
+  private final Map<String, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+
+  private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  private final ScheduledExecutorService dispatcher =
+    Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "user-name-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+  @Autowired
+  public UserNameLoader(MongoTemplate mongoTemplate,
+                        @Value("${users.names.cache-size:50000}") int cacheSize,
+                        @Value("${users.names.batch-window-ms:2}") long batchWindowMillis,
+                        @Value("${users.names.timeout-ms:5000}") long timeoutMillis) {
+    this.mongoTemplate = mongoTemplate;
+    this.names = new LruCache<>(cacheSize);
+    this.batchWindowMillis = batchWindowMillis;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Resolves user IDs to names.
+   *
+   * @param userIds the IDs to resolve; duplicates and {@code null}s are ignored
+   * @return names keyed by user ID, in the order of the input; unknown IDs are left out
+   * @throws BillSyncServerException if the names cannot be loaded in time
+   */
+  public Map<String, String> loadNames(Collection<String> userIds) throws BillSyncServerException {
+    Map<String, String> resolved = new LinkedHashMap<>();
+    Map<String, CompletableFuture<String>> waiting = new HashMap<>();
+    boolean queued = false;
+
+    for (String userId : userIds) {
+      if (userId == null || resolved.containsKey(userId) || waiting.containsKey(userId)) {
+        continue;
+      }
+      String name = names.get(userId);
+      if (name != null) {
+        resolved.put(userId, name);
+        continue;
+      }
+      resolved.put(userId, null);
+      CompletableFuture<String> load = pending.get(userId);
+      if (load == null) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        load = pending.putIfAbsent(userId, created);
+        if (load == null) {
+          load = created;
+          queue.add(userId);
+          queued = true;
+        }
+      }
+      waiting.put(userId, load);
+    }
+
+    if (queued) {
+      scheduleFlush();
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    try {
+      for (Map.Entry<String, CompletableFuture<String>> entry : waiting.entrySet()) {
+        long remaining = deadline - System.nanoTime();
+        resolved.put(entry.getKey(), entry.getValue().get(remaining, TimeUnit.NANOSECONDS));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BillSyncServerException("Interrupted while resolving user names", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new BillSyncServerException("Unable to resolve user names", e,
+        HttpStatusCodeEnum.SERVICE_UNAVAILABLE);
+    }
+
+    resolved.values().removeIf(name -> name == null);
+    return resolved;
+  }
+
+  /**
+   * Drops a cached name, e.g. after the user was deleted.
+   *
+   * @param userId the user ID
+   */
+  public void evict(String userId) {
+    names.remove(userId);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dispatcher.shutdownNow();
+  }
+
+  private void scheduleFlush() {
+    if (flushScheduled.compareAndSet(false, true)) {
+      dispatcher.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Loads every queued ID. IDs queued while this runs are picked up by the next flush.
+   */
+  private void flush() {
+    flushScheduled.set(false);
+    List<String> batch = new ArrayList<>(MAX_IDS_PER_QUERY);
+    String userId;
+    while ((userId = queue.poll()) != null) {
+      batch.add(userId);
+      if (batch.size() == MAX_IDS_PER_QUERY) {
+        load(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      load(batch);
+    }
+  }
+
+  private void load(List<String> userIds) {
+    Map<String, String> found = new HashMap<>();
+    RuntimeException failure = null;
+    try {
+      Query query = Query.query(Criteria.where("_id").in(userIds));
+      query.fields().include("_id", "name");
+      for (User user : mongoTemplate.find(query, User.class)) {
+        found.put(user.getId(), user.getName());
+      }
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+
+    for (String userId : userIds) {
+      CompletableFuture<String> load = pending.get(userId);
+      String name = found.get(userId);
+      // Cache before removing the pending load, so a concurrent caller finds one or the other.
+      if (name != null) {
+        names.put(userId, name);
+      }
+      pending.remove(userId, load);
+      if (load != null) {
+        if (failure != null) {
+          load.completeExceptionally(failure);
+        } else {
+          load.complete(name);
+        }
+      }
+    }
+  }
+}
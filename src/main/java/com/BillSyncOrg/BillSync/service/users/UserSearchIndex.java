@@ -0,0 +1,205 @@
+package com.BillSyncOrg.BillSync.service.users;
+
+import com.BillSyncOrg.BillSync.dto.userRecords.UserSummary;
+import com.BillSyncOrg.BillSync.model.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index over user names, emails and phone numbers, used for typeahead search.
+ * <p>
+ * Every user is stored under a few normalized keys: each word of the name, the name itself,
+ * the email and the phone number digits. Keys live in a sorted {@link ConcurrentSkipListMap},
+ * so a prefix lookup is a seek to the first key with the prefix followed by a short in-order
+ * scan, without touching the database.
+ * </p>
+ *
+ * <p>
+ * The index is built at startup, updated on every signup and deletion handled by this
+ * instance, and rebuilt every {@code users.search-index.rebuild-interval-ms} so that changes
+ * made through other instances are picked up.
+ * </p>
+ */
+@Service
+public class UserSearchIndex {
+
+  /**
+   * Separates the normalized term from the user ID in a key, and sorts before every character
+   * a term can contain, so all keys of a term are adjacent.
+   */
+  private static final char KEY_SEPARATOR = '\u0000';
+
+  private static final int CURSOR_BATCH_SIZE = 1000;
+
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * The index consulted by {@link #search(String, int)}.
+   */
+  private volatile Index index = new Index();
+
+  /**
+   * The index being rebuilt, if any. Changes made during a rebuild are applied to it as well,
+   * so they are not lost when it replaces {@link #index}.
+   */
+  private volatile Index rebuilding;
+
+  /**
+   * Keys of the index mapped to users, and the keys of every user for removal.
+   */
+  private static final class Index {
+
+    private final ConcurrentSkipListMap<String, UserSummary> entries =
+      new ConcurrentSkipListMap<>();
+
+    private final Map<String, List<String>> keysByUserId = new ConcurrentHashMap<>();
+
+    void add(User user) {
+      remove(user.getId());
+      UserSummary summary = new UserSummary(user.getId(), user.getName());
+      List<String> keys = new ArrayList<>();
+      for (String term : terms(user)) {
+        String key = term + KEY_SEPARATOR + user.getId();
+        entries.put(key, summary);
+        keys.add(key);
+      }
+      keysByUserId.put(user.getId(), keys);
+    }
+
+    void remove(String userId) {
+      List<String> keys = keysByUserId.remove(userId);
+      if (keys != null) {
+        keys.forEach(entries::remove);
+      }
+    }
+  }
+
+  @Autowired
+  public UserSearchIndex(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Builds the index from the {@code users} collection. Runs at startup and then periodically.
+   */
+  @PostConstruct
+  @Scheduled(initialDelayString = "${users.search-index.rebuild-interval-ms:600000}",
+    fixedDelayString = "${users.search-index.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    Index next = new Index();
+    rebuilding = next;
+    Query query = new Query().cursorBatchSize(CURSOR_BATCH_SIZE);
+    query.fields().include("_id", "name", "email", "phoneNumber");
+    try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+      Iterator<User> iterator = users.iterator();
+      while (iterator.hasNext()) {
+        next.add(iterator.next());
+      }
+      index = next;
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  /**
+   * Adds a user to the index, or refreshes their entries.
+   *
+   * @param user the user, with name, email and phone number
+   */
+  public void add(User user) {
+    Index next = rebuilding;
+    if (next != null) {
+      next.add(user);
+    }
+    index.add(user);
+  }
+
+  /**
+   * Removes a user from the index.
+   *
+   * @param userId the user ID
+   */
+  public void remove(String userId) {
+    Index next = rebuilding;
+    if (next != null) {
+      next.remove(userId);
+    }
+    index.remove(userId);
+  }
+
+  /**
+   * Finds users whose name, any word of their name, email or phone number starts with the
+   * given prefix, ignoring case.
+   *
+   * @param prefix     the text typed so far
+   * @param maxResults the maximum number of users to return
+   * @return up to {@code maxResults} distinct users, ordered by the matching key
+   */
+  public List<UserSummary> search(String prefix, int maxResults) {
+    String normalized = normalize(prefix);
+    if (normalized.isEmpty() || maxResults < 1) {
+      return List.of();
+    }
+
+    Map<String, UserSummary> results = new LinkedHashMap<>();
+    Map<String, UserSummary> matches =
+      index.entries.subMap(normalized, true, normalized + Character.MAX_VALUE, true);
+    for (UserSummary user : matches.values()) {
+      results.putIfAbsent(user.getId(), user);
+      if (results.size() == maxResults) {
+        break;
+      }
+    }
+    return new ArrayList<>(results.values());
+  }
+
+  /**
+   * Normalized search terms of a user.
+   */
+  private static List<String> terms(User user) {
+    List<String> terms = new ArrayList<>();
+    String name = normalize(user.getName());
+    if (!name.isEmpty()) {
+      terms.add(name);
+      for (String word : name.split(" ")) {
+        if (!word.isEmpty() && !word.equals(name)) {
+          terms.add(word);
+        }
+      }
+    }
+    String email = normalize(user.getEmail());
+    if (!email.isEmpty()) {
+      terms.add(email);
+    }
+    String phoneNumber = normalize(user.getPhoneNumber());
+    if (!phoneNumber.isEmpty()) {
+      terms.add(phoneNumber);
+    }
+    return terms;
+  }
+
+  /**
+   * Lower-cases and collapses whitespace, so lookups are case-insensitive.
+   */
+  private static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,105 @@
+package com.BillSyncOrg.BillSync.util.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * A Bloom filter answers "definitely not present" or "possibly present" using a fixed bit
+ * array, so it can short-circuit lookups for values that were never added without holding the
+ * values themselves. False positives occur at roughly the configured rate; false negatives
+ * never occur.
+ * </p>
+ *
+ * <p>
+ * Bits are stored in an {@link AtomicLongArray}, so {@link #put(String)} and
+ * {@link #mightContain(String)} can be called concurrently without locking.
+ * </p>
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+
+  private final long bitCount;
+
+  private final int hashCount;
+
+  /**
+   * Creates a filter sized for the expected number of values and false positive rate.
+   *
+   * @param expectedInsertions  the number of values expected to be added
+   * @param falsePositiveRate   the acceptable false positive rate, e.g. {@code 0.01}
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long insertions = Math.max(1, expectedInsertions);
+    long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate)
+      / (Math.log(2) * Math.log(2)));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = wordCount * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+  }
+
+  /**
+   * Adds a value to the filter.
+   *
+   * @param value the value to add
+   */
+  public void put(String value) {
+    long hash = hash64(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = bitIndex(hash1, hash2, i);
+      long mask = 1L << bit;
+      words.getAndAccumulate((int) (bit >>> 6), mask, (current, m) -> current | m);
+    }
+  }
+
+  /**
+   * Checks whether a value may have been added to the filter.
+   *
+   * @param value the value to check
+   * @return {@code false} if the value was definitely never added, {@code true} otherwise
+   */
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = bitIndex(hash1, hash2, i);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Derives the i-th bit position from two base hashes (Kirsch-Mitzenmacher).
+   */
+  private long bitIndex(int hash1, int hash2, int i) {
+    int combined = hash1 + i * hash2;
+    if (combined < 0) {
+      combined = ~combined;
+    }
+    return combined % bitCount;
+  }
+
+  /**
+   * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer.
+   */
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,195 @@
+package com.BillSyncOrg.BillSync.util.cache;
+
+import com.BillSyncOrg.BillSync.exceptions.clientExceptions.BillSyncClientException;
+import com.BillSyncOrg.BillSync.exceptions.serverExceptions.BillSyncServerException;
+import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Serves read endpoints with strong ETags and keeps their serialized responses in memory.
+ * <p>
+ * Every cacheable resource, such as the user directory or a single group, has a version in the
+ * {@link ResourceVersionStore} that is replaced by {@link #invalidate(String)} whenever the
+ * resource is written. The ETag of a response is a SHA-256 digest of that version and the
+ * request parameters, so a request whose {@code If-None-Match} still matches is answered with
+ * {@code 304 Not Modified} before any repository call. While the store's in-process copy of
+ * the version is fresh, this needs no database I/O at all.
+ * </p>
+ *
+ * <p>
+ * Other requests are served from a bounded LRU cache of the serialized response bodies, keyed by
+ * resource and request parameters. An entry is only used while the version it was built for is
+ * still current. A response is not cached if its resource was written while it was being built.
+ * </p>
+ *
+ * <p>
+ * Versions are shared by all instances through MongoDB, so a write on one instance invalidates
+ * the cached bodies and ETags of every other instance, and tags stay valid across restarts.
+ * Other instances notice the write within {@code http.response-cache.version-ttl-ms}, and may
+ * serve the previous response until then; writes through this instance are visible at once.
+ * </p>
+ */
+@Component
+public class ConditionalResponseCache {
+
+  /**
+   * Resource of the user directory.
+   */
+  public static final String USERS = "users";
+
+  /**
+   * Loads a response when it is neither unchanged nor cached.
+   */
+  @FunctionalInterface
+  public interface Loader {
+
+    ResponseEntity<Object> load() throws BillSyncClientException, BillSyncServerException;
+  }
+
+  private record CachedResponse(String version, byte[] body) {
+  }
+
+  private final ObjectMapper objectMapper;
+
+  private final ResourceVersionStore versionStore;
+
+  private final LruCache<String, CachedResponse> responses;
+
+  @Autowired
+  public ConditionalResponseCache(ObjectMapper objectMapper, ResourceVersionStore versionStore,
+                                  @Value("${http.response-cache.max-entries:1000}")
+                                  int maxEntries) {
+    this.objectMapper = objectMapper;
+    this.versionStore = versionStore;
+    this.responses = new LruCache<>(maxEntries);
+  }
+
+  /**
+   * Returns the resource name of a group.
+   *
+   * @param groupId the ID of the group
+   * @return the resource covering the group's expenses and settlement
+   */
+  public static String group(String groupId) {
+    return "group:" + groupId;
+  }
+
+  /**
+   * Marks a resource as changed on every instance. Responses built before are no longer served,
+   * and ETags issued for them no longer match. Must be called after the write.
+   *
+   * @param resource the resource that was written
+   */
+  public void invalidate(String resource) {
+    versionStore.bump(resource);
+  }
+
+  /**
+   * Answers a read request from the resource's current version.
+   *
+   * @param resource    the resource the response depends on
+   * @param variant     everything else the response depends on, usually the request parameters
+   * @param ifNoneMatch the {@code If-None-Match} header of the request, or {@code null}
+   * @param loader      builds the response when it is neither unchanged nor cached
+   * @return {@code 304} if the client's copy is current, otherwise the JSON response with its
+   *         ETag
+   * @throws BillSyncClientException if the loader fails with a client error
+   * @throws BillSyncServerException if the loader fails or the response cannot be serialized
+   */
+  public ResponseEntity<Object> respond(String resource, String variant, String ifNoneMatch,
+                                        Loader loader)
+    throws BillSyncClientException, BillSyncServerException {
+    String version = currentVersion(resource);
+    String key = resource + "|" + variant;
+    String eTag = "\"" + digest(version + "|" + key) + "\"";
+
+    if (matches(ifNoneMatch, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    CachedResponse cached = responses.get(key);
+    if (cached != null && cached.version().equals(version)) {
+      return ok(eTag, cached.body());
+    }
+
+    ResponseEntity<Object> response = loader.load();
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      return response;
+    }
+
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(response.getBody());
+    } catch (JsonProcessingException e) {
+      throw new BillSyncServerException("Unable to serialize response", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+    // The response may already contain a write made after the version was read; such a
+    // response is still returned, but not cached.
+    if (currentVersion(resource).equals(version)) {
+      responses.put(key, new CachedResponse(version, body));
+    }
+    return ok(eTag, body);
+  }
+
+  private static ResponseEntity<Object> ok(String eTag, byte[] body) {
+    return ResponseEntity.ok()
+      .eTag(eTag)
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(body);
+  }
+
+  private String currentVersion(String resource) throws BillSyncServerException {
+    try {
+      return versionStore.current(resource);
+    } catch (RuntimeException e) {
+      throw new BillSyncServerException("Unable to read resource version", e,
+        HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Returns the first 128 bits of the SHA-256 digest of a value as hex.
+   */
+  private static String digest(String value) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+        .digest(value.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Checks an {@code If-None-Match} header, which may list several tags, against an ETag.
+   */
+  private static boolean matches(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      String candidate = tag.trim();
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.equals("*") || candidate.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
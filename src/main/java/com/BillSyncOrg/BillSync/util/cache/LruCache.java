@@ -0,0 +1,114 @@
+package com.BillSyncOrg.BillSync.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe, size-bounded cache that evicts the least recently used entry once full.
+ * <p>
+ * Entries are kept in an access-ordered {@link LinkedHashMap} guarded by a single lock. Every
+ * operation is O(1) and holds the lock only for the map access itself, so no I/O or other
+ * blocking work ever happens while it is held.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final LinkedHashMap<K, V> entries;
+
+  /**
+   * Creates a cache holding at most {@code maxSize} entries. A size of zero disables caching.
+   *
+   * @param maxSize the maximum number of entries
+   */
+  public LruCache(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative.");
+    }
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > LruCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value for a key and marks it as recently used.
+   *
+   * @param key the key
+   * @return the cached value, or {@code null} if absent
+   */
+  public V get(K key) {
+    lock.lock();
+    try {
+      return entries.get(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Caches a value, evicting the least recently used entry if the cache is full.
+   *
+   * @param key   the key
+   * @param value the value
+   */
+  public void put(K key, V value) {
+    if (maxSize == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      entries.put(key, value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the entry for a key, if present.
+   *
+   * @param key the key
+   */
+  public void remove(K key) {
+    lock.lock();
+    try {
+      entries.remove(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void clear() {
+    lock.lock();
+    try {
+      entries.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the current number of entries
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
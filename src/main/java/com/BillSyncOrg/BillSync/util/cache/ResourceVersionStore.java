@@ -0,0 +1,106 @@
+package com.BillSyncOrg.BillSync.util.cache;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the current version of cacheable resources in the {@code resource_versions} collection.
+ * <p>
+ * Every write to a resource stores a new, unique version for it, so all instances agree on the
+ * version and any cache entry or ETag built for an older one stops matching, wherever it was
+ * issued. Versions are random rather than counters, so a version seen before the collection was
+ * emptied is never reused.
+ * </p>
+ *
+ * <p>
+ * Versions read from MongoDB are kept in a bounded in-process cache for
+ * {@code http.response-cache.version-ttl-ms}, so repeated reads of a busy resource, including
+ * conditional requests answered with {@code 304}, need no database I/O. Writes made through this
+ * instance replace the cached version right away; writes made on other instances are seen once
+ * the cached version expires, so a response may be up to that long out of date there.
+ * </p>
+ */
+@Component
+public class ResourceVersionStore {
+
+  static final String COLLECTION = "resource_versions";
+
+  /**
+   * Version of a resource that has not been written since the collection was created.
+   */
+  static final String INITIAL_VERSION = "0";
+
+  private final MongoTemplate mongoTemplate;
+
+  private final LruCache<String, CachedVersion> versions;
+
+  private final long ttlMillis;
+
+  /**
+   * Number of bumps so far, used to detect one running while a version is read from MongoDB.
+   */
+  private final AtomicLong bumps = new AtomicLong();
+
+  /**
+   * A version together with the time it stops being trusted, in epoch milliseconds.
+   */
+  private record CachedVersion(String version, long expiresAtMillis) {}
+
+  @Autowired
+  public ResourceVersionStore(MongoTemplate mongoTemplate,
+                              @Value("${http.response-cache.max-entries:1000}") int maxEntries,
+                              @Value("${http.response-cache.version-ttl-ms:1000}")
+                              long ttlMillis) {
+    this.mongoTemplate = mongoTemplate;
+    this.versions = new LruCache<>(maxEntries);
+    this.ttlMillis = ttlMillis;
+  }
+
+  /**
+   * Returns the current version of a resource.
+   *
+   * @param resource the resource name
+   * @return the version stored by the last {@link #bump(String)}, or {@code "0"} if there was none
+   */
+  public String current(String resource) {
+    long now = System.currentTimeMillis();
+    CachedVersion cached = versions.get(resource);
+    if (cached != null && now < cached.expiresAtMillis()) {
+      return cached.version();
+    }
+
+    long bumpsBefore = bumps.get();
+    Query query = Query.query(Criteria.where("_id").is(resource));
+    query.fields().include("version");
+    Document document = mongoTemplate.findOne(query, Document.class, COLLECTION);
+    String version = document != null ? document.getString("version") : INITIAL_VERSION;
+    versions.put(resource, new CachedVersion(version, now + ttlMillis));
+    // A bump counted after this check stores its own version afterwards.
+    if (bumps.get() != bumpsBefore) {
+      versions.remove(resource);
+    }
+    return version;
+  }
+
+  /**
+   * Stores a new version for a resource. Must be called after the write it records.
+   *
+   * @param resource the resource that was written
+   */
+  public void bump(String resource) {
+    String version = new ObjectId().toHexString();
+    mongoTemplate.upsert(Query.query(Criteria.where("_id").is(resource)),
+      new Update().set("version", version), COLLECTION);
+    bumps.incrementAndGet();
+    versions.put(resource, new CachedVersion(version, System.currentTimeMillis() + ttlMillis));
+  }
+}
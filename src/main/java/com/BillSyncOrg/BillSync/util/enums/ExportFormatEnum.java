@@ -0,0 +1,38 @@
+package com.BillSyncOrg.BillSync.util.enums;
+
+/**
+ * Enum representing the file formats an expense export can be streamed in.
+ */
+public enum ExportFormatEnum {
+
+  NDJSON("ndjson", "application/x-ndjson"),
+  CSV("csv", "text/csv");
+
+  private final String value;
+  private final String contentType;
+
+  ExportFormatEnum(String value, String contentType) {
+    this.value = value;
+    this.contentType = contentType;
+  }
+
+  public String getValue() { return value; }
+
+  public String getContentType() { return contentType; }
+
+  /**
+   * Returns the export format for the given value, ignoring case.
+   *
+   * @param value the requested format, e.g. {@code "csv"}
+   * @return the matching export format
+   * @throws IllegalArgumentException if the format is not supported
+   */
+  public static ExportFormatEnum fromValue(String value) {
+    for (ExportFormatEnum format : values()) {
+      if (format.value.equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("Unsupported export format: " + value);
+  }
+}
@@ -27,6 +27,11 @@ public enum HttpStatusCodeEnum {
    */
   NO_CONTENT(204, "No Content"),
 
+  /**
+   * 207 Multi-Status: The request was processed, but the outcome differs between its parts.
+   */
+  MULTI_STATUS(207, "Multi-Status"),
+
   /**
    * 400 Bad Request: The server cannot process the request due to something that is perceived to be a client error.
    */
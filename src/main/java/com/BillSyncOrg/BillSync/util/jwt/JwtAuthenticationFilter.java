@@ -1,8 +1,9 @@
 package com.BillSyncOrg.BillSync.util.jwt;
 
 import com.BillSyncOrg.BillSync.context.RequestContext;
-import com.BillSyncOrg.BillSync.repository.BlacklistedTokenRepository;
-import com.BillSyncOrg.BillSync.repository.UserRepository;
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +11,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -21,21 +25,29 @@ import java.util.List;
  * This filter intercepts all incoming HTTP requests and validates the JWT token if provided
  * in the "Authorization" header. If the token is valid, it extracts and stores the user ID
  * into the RequestContext for use in downstream layers.
+ * <p>
+ * Being a {@link OncePerRequestFilter}, it does not run again on the ASYNC dispatch that
+ * completes {@code Mono} and {@code StreamingResponseBody} handlers. The authentication is
+ * therefore also saved as a request attribute, from where Spring Security restores it for that
+ * dispatch, so the dispatch is authorized like the original request.
+ * </p>
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
-  private final UserRepository userRepository;
-  private final BlacklistedTokenRepository blacklistRepo;
+  private final UserSessionCache userSessionCache;
+  private final TokenBlacklistService tokenBlacklistService;
+  private final SecurityContextRepository securityContextRepository =
+    new RequestAttributeSecurityContextRepository();
 
   @Autowired
   public JwtAuthenticationFilter(JwtUtil jwtUtil,
-                                 UserRepository userRepository,
-                                 BlacklistedTokenRepository blacklistRepo) {
+                                 UserSessionCache userSessionCache,
+                                 TokenBlacklistService tokenBlacklistService) {
     this.jwtUtil = jwtUtil;
-    this.userRepository = userRepository;
-    this.blacklistRepo = blacklistRepo;
+    this.userSessionCache = userSessionCache;
+    this.tokenBlacklistService = tokenBlacklistService;
   }
 
   @Override
@@ -45,37 +57,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     throws ServletException, IOException {
 
     String authHeader = request.getHeader("Authorization");
+    String userId = null;
 
-    try {
-      if (authHeader != null && authHeader.startsWith("Bearer ")) {
-        String token = authHeader.substring(7);
-
-        if (blacklistRepo.existsByToken(token)) {
-          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-          response.getWriter().write("Invalid token");
-          return;
-        }
+    if (authHeader != null && authHeader.startsWith("Bearer ")) {
+      String token = authHeader.substring(7);
 
-        String userId = jwtUtil.extractUserId(token);
+      if (tokenBlacklistService.isBlacklisted(token)) {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getWriter().write("Invalid token");
+        return;
+      }
 
-        if (userId == null || !userRepository.existsById(userId)) {
-          response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-          response.getWriter().write("Invalid token");
-          return;
-        }
+      Claims claims = extractClaims(token);
+      userId = claims != null ? claims.getSubject() : null;
+      Long tokenVersion = userId != null ? userSessionCache.getTokenVersion(userId) : null;
 
-        RequestContext.setUserId(userId);
+      if (tokenVersion == null || tokenVersion != JwtUtil.extractTokenVersion(claims)) {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.getWriter().write("Invalid token");
+        return;
+      }
 
-        UsernamePasswordAuthenticationToken authentication =
-          new UsernamePasswordAuthenticationToken(userId, null, List.of(new SimpleGrantedAuthority("USER")));
+      UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(userId, null, List.of(new SimpleGrantedAuthority("USER")));
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-      }
+      SecurityContext context = SecurityContextHolder.createEmptyContext();
+      context.setAuthentication(authentication);
+      SecurityContextHolder.setContext(context);
+      securityContextRepository.saveContext(context, request, response);
+    }
 
+    // The user ID is only bound while the rest of the chain runs for this request.
+    try (RequestContext.Scope ignored = RequestContext.withUserId(userId)) {
       filterChain.doFilter(request, response);
+    }
+  }
 
-    } finally {
-      RequestContext.clear(); // Ensure no memory leaks
+  /**
+   * Verifies a token and returns its claims, or {@code null} if it is invalid or expired.
+   */
+  private Claims extractClaims(String token) {
+    try {
+      return jwtUtil.extractAllClaims(token);
+    } catch (Exception e) {
+      return null;
     }
   }
 }
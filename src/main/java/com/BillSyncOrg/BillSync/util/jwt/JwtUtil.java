@@ -1,14 +1,22 @@
 package com.BillSyncOrg.BillSync.util.jwt;
 
 import com.BillSyncOrg.BillSync.exceptions.serverExceptions.JWTException;
+import com.BillSyncOrg.BillSync.util.cache.LruCache;
 import com.BillSyncOrg.BillSync.util.enums.HttpStatusCodeEnum;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 /**
@@ -17,31 +25,78 @@ import java.util.Date;
  * This class generates signed JWT tokens that embed the user ID, with a long expiration
  * (30 days). These tokens are returned during login and stored in MongoDB.
  * </p>
+ *
+ * <p>
+ * The signing key and parser are built once from the configured secret. Claims of recently
+ * verified tokens are kept in a bounded LRU cache keyed by the SHA-256 hash of the token, so a
+ * client sending the same token on every request is only parsed and verified once until the
+ * token expires.
+ * </p>
  */
 @Component
 public class JwtUtil {
 
   /**
-   * The secret key used to sign JWTs. This should be a strong, long, and confidential value.
-   * Injected from the {@code application.properties} file.
+   * Validity of issued tokens: 30 days.
+   */
+  public static final long TOKEN_VALIDITY_MILLIS = 1000L * 60 * 60 * 24 * 30;
+
+  /**
+   * Claim holding the token version of the user at the time the token was issued.
+   */
+  public static final String TOKEN_VERSION_CLAIM = "ver";
+
+  /**
+   * The key used to sign and verify JWTs, derived once from the configured secret.
+   */
+  private final SecretKey signingKey;
+
+  /**
+   * Immutable, thread-safe parser verifying signatures with {@link #signingKey}.
    */
-  @Value("${jwt.secret}")
-  private String secretKey;
+  private final JwtParser parser;
 
   /**
-   * Generates a signed JWT containing the user ID as the subject.
+   * Claims of recently verified tokens, keyed by the hash of the token.
+   */
+  private final LruCache<String, VerifiedToken> verifiedTokens;
+
+  /**
+   * Claims of a verified token together with its expiry in epoch milliseconds.
+   */
+  private record VerifiedToken(Claims claims, long expiresAtMillis) {}
+
+  /**
+   * Builds the signing key, parser and verified-token cache.
    *
-   * @param userId the MongoDB user ID to embed in the token
+   * @param secretKey      the secret used to sign JWTs. This should be a strong, long, and
+   *                       confidential value, injected from {@code application.properties}
+   * @param claimsCacheSize the maximum number of verified tokens to cache; zero disables it
+   */
+  @Autowired
+  public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                 @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheSize) {
+    this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    this.verifiedTokens = new LruCache<>(claimsCacheSize);
+  }
+
+  /**
+   * Generates a signed JWT containing the user ID as the subject and the user's token version.
+   *
+   * @param userId       the MongoDB user ID to embed in the token
+   * @param tokenVersion the current token version of the user
    * @return a JWT string signed with the configured secret key
    * @throws JWTException the exception while generating the jwt
    */
-  public String generateToken(String userId) throws JWTException {
+  public String generateToken(String userId, long tokenVersion) throws JWTException {
     try {
       return Jwts.builder()
         .setSubject(userId)
+        .claim(TOKEN_VERSION_CLAIM, tokenVersion)
         .setIssuedAt(new Date())
-        .setExpiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24 * 30)) // 30 days
-        .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
+        .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MILLIS))
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
     } catch (Exception e) {
       throw new JWTException("Error generating jwt!", e, HttpStatusCodeEnum.INTERNAL_SERVER_ERROR);
@@ -50,15 +105,45 @@ public class JwtUtil {
 
   /**
    * Extracts all claims (payload) from the JWT token.
+   * <p>
+   * Claims of a token verified earlier are served from the cache until the token expires. The
+   * returned claims may be shared between callers and must not be modified.
+   * </p>
    *
    * @param token the JWT token string.
    * @return the extracted claims.
    */
   public Claims extractAllClaims(String token) {
-    return Jwts.parser()
-      .setSigningKey(secretKey.getBytes())
-      .parseClaimsJws(token)
-      .getBody();
+    String tokenHash = hash(token);
+    VerifiedToken cached = verifiedTokens.get(tokenHash);
+    if (cached != null) {
+      if (System.currentTimeMillis() < cached.expiresAtMillis()) {
+        return cached.claims();
+      }
+      verifiedTokens.remove(tokenHash);
+    }
+
+    // Throws for invalid signatures and expired tokens, so neither is ever cached.
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    if (claims.getExpiration() != null) {
+      verifiedTokens.put(tokenHash,
+        new VerifiedToken(claims, claims.getExpiration().getTime()));
+    }
+    return claims;
+  }
+
+  /**
+   * Extracts the expiry of the JWT token.
+   *
+   * @param token the JWT token string.
+   * @return the expiry if the token is valid, otherwise {@code null}.
+   */
+  public Date extractExpiration(String token) {
+    try {
+      return extractAllClaims(token).getExpiration();
+    } catch (Exception e) {
+      return null;
+    }
   }
 
   /**
@@ -74,4 +159,29 @@ public class JwtUtil {
       return null;
     }
   }
+
+  /**
+   * Extracts the token version embedded in the claims of a token.
+   *
+   * @param claims the verified claims
+   * @return the token version, or {@code 0} for tokens issued before versions were introduced
+   */
+  public static long extractTokenVersion(Claims claims) {
+    Number version = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+    return version != null ? version.longValue() : 0;
+  }
+
+  /**
+   * Hashes a token for use as a cache key, so raw tokens are not kept in memory.
+   */
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+        .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,41 @@
+package com.BillSyncOrg.BillSync.util.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a decimal amount in major units (number or numeric string) into minor units,
+ * e.g. {@code 12.34} is read as {@code 1234}.
+ * <p>
+ * The amount is parsed from its textual form, so no binary floating point rounding is involved.
+ * Amounts with more than two decimal places are rejected.
+ * </p>
+ */
+public class MinorUnitsDeserializer extends JsonDeserializer<Long> {
+
+  @Override
+  public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    BigDecimal amount;
+    if (p.currentToken() == JsonToken.VALUE_STRING) {
+      try {
+        amount = new BigDecimal(p.getText().trim());
+      } catch (NumberFormatException e) {
+        return (Long) ctxt.handleWeirdStringValue(Long.class, p.getText(), "not a valid amount");
+      }
+    } else {
+      amount = p.getDecimalValue();
+    }
+
+    try {
+      return MoneyUtil.toMinorUnits(amount);
+    } catch (IllegalArgumentException e) {
+      return (Long) ctxt.handleWeirdNumberValue(Long.class, amount,
+        "amount must have at most " + MoneyUtil.MINOR_UNIT_SCALE + " decimal places");
+    }
+  }
+}
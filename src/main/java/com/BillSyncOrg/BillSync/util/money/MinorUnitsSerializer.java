@@ -0,0 +1,20 @@
+package com.BillSyncOrg.BillSync.util.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Writes an amount held in minor units as a decimal number in major units,
+ * e.g. {@code 1234} is written as {@code 12.34}.
+ */
+public class MinorUnitsSerializer extends JsonSerializer<Long> {
+
+  @Override
+  public void serialize(Long value, JsonGenerator gen, SerializerProvider serializers)
+    throws IOException {
+    gen.writeNumber(MoneyUtil.toMajorUnits(value));
+  }
+}
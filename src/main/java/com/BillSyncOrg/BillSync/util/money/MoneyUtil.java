@@ -0,0 +1,74 @@
+package com.BillSyncOrg.BillSync.util.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Utility class for exact money arithmetic on {@code long} minor units (e.g. cents).
+ * <p>
+ * All amounts are persisted and accumulated as whole minor units so that sums are exact integer
+ * additions and balances never drift. Conversions to and from decimal major units only happen
+ * at the API boundary.
+ * </p>
+ */
+public class MoneyUtil {
+
+  /**
+   * Number of decimal places represented by one minor unit.
+   */
+  public static final int MINOR_UNIT_SCALE = 2;
+
+  private MoneyUtil() throws IllegalAccessException {
+    throw new IllegalAccessException("Cannot access private constructor");
+  }
+
+  /**
+   * Converts a decimal amount in major units to minor units.
+   *
+   * @param amount the amount in major units, e.g. {@code 12.34}
+   * @return the amount in minor units, e.g. {@code 1234}
+   * @throws IllegalArgumentException if the amount has more than {@link #MINOR_UNIT_SCALE}
+   *                                  decimal places or does not fit into a {@code long}
+   */
+  public static long toMinorUnits(BigDecimal amount) {
+    try {
+      return amount.movePointRight(MINOR_UNIT_SCALE).longValueExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Invalid money amount: " + amount.toPlainString(), e);
+    }
+  }
+
+  /**
+   * Converts an amount in minor units back to decimal major units.
+   *
+   * @param minorUnits the amount in minor units
+   * @return the amount in major units with {@link #MINOR_UNIT_SCALE} decimal places
+   */
+  public static BigDecimal toMajorUnits(long minorUnits) {
+    return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+  }
+
+  /**
+   * Splits an amount into {@code parts} shares that always add up to the original amount.
+   * <p>
+   * Every share receives the floor of the even split; the remaining minor units are handed out
+   * one each to the first participants in order, so the distribution is deterministic for a
+   * given participant order.
+   * </p>
+   *
+   * @param amount the amount in minor units
+   * @param parts  the number of participants, must be positive
+   * @return an array of {@code parts} shares in minor units
+   */
+  public static long[] split(long amount, int parts) {
+    if (parts <= 0) {
+      throw new IllegalArgumentException("Cannot split an amount into " + parts + " parts");
+    }
+    long base = Math.floorDiv(amount, parts);
+    long remainder = Math.floorMod(amount, parts);
+    long[] shares = new long[parts];
+    for (int i = 0; i < parts; i++) {
+      shares[i] = i < remainder ? base + 1 : base;
+    }
+    return shares;
+  }
+}
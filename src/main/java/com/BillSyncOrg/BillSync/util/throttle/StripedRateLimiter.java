@@ -0,0 +1,76 @@
+package com.BillSyncOrg.BillSync.util.throttle;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free token bucket rate limiter keyed by string, with a fixed memory footprint.
+ * <p>
+ * Keys are hashed onto a fixed number of stripes, each holding one bucket. A bucket is stored
+ * as a single {@code long}, the time at which it will be full again (the generic cell rate
+ * algorithm, equivalent to a token bucket), and updated with compare-and-set, so acquiring a
+ * permit never blocks and needs no per-key state or cleanup.
+ * </p>
+ *
+ * <p>
+ * Keys sharing a stripe share a bucket, which can only make limiting stricter. With enough
+ * stripes for the number of keys active within one refill period this is rare.
+ * </p>
+ */
+public class StripedRateLimiter {
+
+  private final AtomicLongArray fullAt;
+
+  private final int stripeMask;
+
+  private final long nanosPerPermit;
+
+  private final long burstNanos;
+
+  private final long origin = System.nanoTime();
+
+  /**
+   * Creates a limiter.
+   *
+   * @param permitsPerMinute the sustained number of permits per key per minute
+   * @param burst            the number of permits a key can use at once after being idle
+   * @param stripes          the number of buckets, rounded up to a power of two
+   */
+  public StripedRateLimiter(int permitsPerMinute, int burst, int stripes) {
+    if (permitsPerMinute <= 0 || burst <= 0 || stripes <= 0) {
+      throw new IllegalArgumentException("Rate, burst and stripes must be positive.");
+    }
+    int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.fullAt = new AtomicLongArray(size);
+    this.stripeMask = size - 1;
+    this.nanosPerPermit = 60_000_000_000L / permitsPerMinute;
+    this.burstNanos = nanosPerPermit * burst;
+  }
+
+  /**
+   * Takes one permit for a key if available.
+   *
+   * @param key the throttled key, e.g. a login identifier or client IP
+   * @return {@code true} if a permit was taken, {@code false} if the key is over its rate
+   */
+  public boolean tryAcquire(String key) {
+    int stripe = spread(key.hashCode()) & stripeMask;
+    long now = System.nanoTime() - origin;
+    while (true) {
+      long current = fullAt.get(stripe);
+      long next = Math.max(current, now) + nanosPerPermit;
+      if (next - now > burstNanos) {
+        return false;
+      }
+      if (fullAt.compareAndSet(stripe, current, next)) {
+        return true;
+      }
+    }
+  }
+
+  private static int spread(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    return hash;
+  }
+}
@@ -0,0 +1,87 @@
+package com.BillSyncOrg.BillSync.controller;
+
+import com.BillSyncOrg.BillSync.config.CorsConfig;
+import com.BillSyncOrg.BillSync.config.SecurityConfig;
+import com.BillSyncOrg.BillSync.controller.users.AllUsersController;
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.service.users.AllUsersService;
+import com.BillSyncOrg.BillSync.support.AuthenticatedRequests;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the NDJSON user directory stream, which is written on an ASYNC dispatch, is
+ * authorized on that dispatch as well.
+ */
+@WebMvcTest(controllers = AllUsersController.class)
+@Import({SecurityConfig.class, CorsConfig.class})
+class AllUsersStreamSecurityTest {
+
+  private static final String NDJSON = "{\"id\":\"user-1\",\"name\":\"Alice\"}\n";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private AllUsersService allUsersService;
+
+  @MockitoBean
+  private ConditionalResponseCache responseCache;
+
+  @MockitoBean
+  private JwtUtil jwtUtil;
+
+  @MockitoBean
+  private UserSessionCache userSessionCache;
+
+  @MockitoBean
+  private TokenBlacklistService tokenBlacklistService;
+
+  @BeforeEach
+  void setUp() {
+    AuthenticatedRequests.stubValidToken(jwtUtil, userSessionCache, tokenBlacklistService);
+  }
+
+  @Test
+  void streamCompletesOnAsyncDispatch() throws Exception {
+    doAnswer(invocation -> {
+      invocation.getArgument(0, OutputStream.class).write(NDJSON.getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(allUsersService).streamAllUsers(any());
+
+    MvcResult result = mockMvc.perform(get("/api/user-records/all-users/stream")
+        .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().string(NDJSON));
+  }
+
+  @Test
+  void streamWithoutTokenIsRejected() throws Exception {
+    mockMvc.perform(get("/api/user-records/all-users/stream"))
+      .andExpect(status().isForbidden());
+  }
+}
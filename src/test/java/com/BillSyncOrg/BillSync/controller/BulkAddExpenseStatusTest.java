@@ -0,0 +1,104 @@
+package com.BillSyncOrg.BillSync.controller;
+
+import com.BillSyncOrg.BillSync.config.CorsConfig;
+import com.BillSyncOrg.BillSync.config.SecurityConfig;
+import com.BillSyncOrg.BillSync.controller.expenses.ExpenseController;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.BulkAddExpenseResponse;
+import com.BillSyncOrg.BillSync.service.expenses.AddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.BulkAddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseExportService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseHistoryService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.support.AuthenticatedRequests;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that a bulk import reports expenses that could not be stored.
+ */
+@WebMvcTest(controllers = ExpenseController.class)
+@Import({SecurityConfig.class, CorsConfig.class})
+class BulkAddExpenseStatusTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private AddExpenseService addExpenseService;
+
+  @MockitoBean
+  private BulkAddExpenseService bulkAddExpenseService;
+
+  @MockitoBean
+  private ExpenseHistoryService expenseHistoryService;
+
+  @MockitoBean
+  private ExpenseExportService expenseExportService;
+
+  @MockitoBean
+  private ConditionalResponseCache responseCache;
+
+  @MockitoBean
+  private JwtUtil jwtUtil;
+
+  @MockitoBean
+  private UserSessionCache userSessionCache;
+
+  @MockitoBean
+  private TokenBlacklistService tokenBlacklistService;
+
+  @BeforeEach
+  void setUp() {
+    AuthenticatedRequests.stubValidToken(jwtUtil, userSessionCache, tokenBlacklistService);
+  }
+
+  @Test
+  void completeImportIsOk() throws Exception {
+    when(bulkAddExpenseService.addExpenses(any()))
+      .thenReturn(new BulkAddExpenseResponse(2, List.of("e1", "e2"), List.of()));
+
+    bulkAdd()
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.message").value("Expenses imported successfully!"));
+  }
+
+  @Test
+  void partialImportIsMultiStatus() throws Exception {
+    when(bulkAddExpenseService.addExpenses(any()))
+      .thenReturn(new BulkAddExpenseResponse(2, Arrays.asList("e1", null, "e3"), List.of(1)));
+
+    bulkAdd()
+      .andExpect(status().isMultiStatus())
+      .andExpect(jsonPath("$.status").value(207))
+      .andExpect(jsonPath("$.message")
+        .value("Imported 2 of 3 expenses, see failedIndexes for the rest"))
+      .andExpect(jsonPath("$.data.failedIndexes[0]").value(1));
+  }
+
+  private ResultActions bulkAdd() throws Exception {
+    return mockMvc.perform(post("/api/expenses/bulk-add-expense")
+      .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content("{\"expenses\": []}"));
+  }
+}
@@ -0,0 +1,107 @@
+package com.BillSyncOrg.BillSync.controller;
+
+import com.BillSyncOrg.BillSync.config.CorsConfig;
+import com.BillSyncOrg.BillSync.config.SecurityConfig;
+import com.BillSyncOrg.BillSync.controller.expenses.ExpenseController;
+import com.BillSyncOrg.BillSync.service.expenses.AddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.BulkAddExpenseService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseExportService;
+import com.BillSyncOrg.BillSync.service.expenses.ExpenseHistoryService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.support.AuthenticatedRequests;
+import com.BillSyncOrg.BillSync.util.cache.ConditionalResponseCache;
+import com.BillSyncOrg.BillSync.util.enums.ExportFormatEnum;
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the streamed expense export, which is written on an ASYNC dispatch, is authorized
+ * on that dispatch as well.
+ */
+@WebMvcTest(controllers = ExpenseController.class)
+@Import({SecurityConfig.class, CorsConfig.class})
+class ExpenseExportSecurityTest {
+
+  private static final String CSV = "id,createAt\n";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private AddExpenseService addExpenseService;
+
+  @MockitoBean
+  private BulkAddExpenseService bulkAddExpenseService;
+
+  @MockitoBean
+  private ExpenseHistoryService expenseHistoryService;
+
+  @MockitoBean
+  private ExpenseExportService expenseExportService;
+
+  @MockitoBean
+  private ConditionalResponseCache responseCache;
+
+  @MockitoBean
+  private JwtUtil jwtUtil;
+
+  @MockitoBean
+  private UserSessionCache userSessionCache;
+
+  @MockitoBean
+  private TokenBlacklistService tokenBlacklistService;
+
+  @BeforeEach
+  void setUp() {
+    AuthenticatedRequests.stubValidToken(jwtUtil, userSessionCache, tokenBlacklistService);
+  }
+
+  @Test
+  void exportCompletesOnAsyncDispatch() throws Exception {
+    when(expenseExportService.prepareExport("group-1", "csv")).thenReturn(ExportFormatEnum.CSV);
+    doAnswer(invocation -> {
+      invocation.getArgument(2, OutputStream.class).write(CSV.getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(expenseExportService).export(eq("group-1"), eq(ExportFormatEnum.CSV), any());
+
+    MvcResult result = mockMvc.perform(get("/api/expenses/export")
+        .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION)
+        .param("groupId", "group-1")
+        .param("format", "csv"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().string(CSV));
+  }
+
+  @Test
+  void exportWithoutTokenIsRejected() throws Exception {
+    mockMvc.perform(get("/api/expenses/export")
+        .param("groupId", "group-1")
+        .param("format", "csv"))
+      .andExpect(status().isForbidden());
+  }
+}
@@ -0,0 +1,124 @@
+package com.BillSyncOrg.BillSync.controller;
+
+import com.BillSyncOrg.BillSync.config.CorsConfig;
+import com.BillSyncOrg.BillSync.config.SecurityConfig;
+import com.BillSyncOrg.BillSync.controller.expenses.ReactiveExpenseController;
+import com.BillSyncOrg.BillSync.controller.groups.ReactiveGroupController;
+import com.BillSyncOrg.BillSync.dto.expenseRecord.ExpensePage;
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.model.Group;
+import com.BillSyncOrg.BillSync.service.expenses.ReactiveExpenseService;
+import com.BillSyncOrg.BillSync.service.group.ReactiveGroupService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.support.AuthenticatedRequests;
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that {@code Mono} handlers, which finish on an ASYNC dispatch, are authorized on that
+ * dispatch as well.
+ */
+@WebMvcTest(controllers = {ReactiveExpenseController.class, ReactiveGroupController.class})
+@Import({SecurityConfig.class, CorsConfig.class})
+@ActiveProfiles("reactive")
+class ReactiveEndpointsSecurityTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private ReactiveExpenseService reactiveExpenseService;
+
+  @MockitoBean
+  private ReactiveGroupService reactiveGroupService;
+
+  @MockitoBean
+  private JwtUtil jwtUtil;
+
+  @MockitoBean
+  private UserSessionCache userSessionCache;
+
+  @MockitoBean
+  private TokenBlacklistService tokenBlacklistService;
+
+  @BeforeEach
+  void setUp() {
+    AuthenticatedRequests.stubValidToken(jwtUtil, userSessionCache, tokenBlacklistService);
+  }
+
+  @Test
+  void addExpenseCompletesOnAsyncDispatch() throws Exception {
+    when(reactiveExpenseService.addExpense(any())).thenReturn(Mono.just(new Expense()));
+
+    performAsync(post("/api/reactive/expenses/add-expense")
+      .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content("{}"));
+  }
+
+  @Test
+  void expensePageCompletesOnAsyncDispatch() throws Exception {
+    when(reactiveExpenseService.getExpenses("group-1", null, 20))
+      .thenReturn(Mono.just(new ExpensePage(List.of(), null)));
+
+    performAsync(get("/api/reactive/expenses")
+      .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION)
+      .param("groupId", "group-1")
+      .param("limit", "20"));
+  }
+
+  @Test
+  void createGroupCompletesOnAsyncDispatch() throws Exception {
+    when(reactiveGroupService.createGroup(any())).thenReturn(Mono.just(new Group()));
+
+    performAsync(post("/api/reactive/groups/create-group")
+      .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION)
+      .contentType(MediaType.APPLICATION_JSON)
+      .content("{\"groupName\": \"Trip\"}"));
+  }
+
+  @Test
+  void settlementCompletesOnAsyncDispatch() throws Exception {
+    when(reactiveGroupService.getSettlement("group-1")).thenReturn(Mono.just(List.of()));
+
+    performAsync(get("/api/reactive/groups/group-1/settlement")
+      .header(HttpHeaders.AUTHORIZATION, AuthenticatedRequests.AUTHORIZATION));
+  }
+
+  @Test
+  void requestWithoutTokenIsRejected() throws Exception {
+    mockMvc.perform(get("/api/reactive/groups/group-1/settlement"))
+      .andExpect(status().isForbidden());
+  }
+
+  private void performAsync(RequestBuilder requestBuilder) throws Exception {
+    MvcResult result = mockMvc.perform(requestBuilder)
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk());
+  }
+}
@@ -0,0 +1,61 @@
+package com.BillSyncOrg.BillSync.service.expenses;
+
+import com.BillSyncOrg.BillSync.model.Expense;
+import com.BillSyncOrg.BillSync.service.group.UtilGroupService;
+import com.BillSyncOrg.BillSync.util.enums.ExportFormatEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpenseExportServiceTest {
+
+  private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+  private final ExpenseExportService exportService =
+    new ExpenseExportService(mongoTemplate, mock(UtilGroupService.class), new ObjectMapper());
+
+  @Test
+  void csvNeutralisesFormulaPrefixes() throws Exception {
+    when(mongoTemplate.stream(any(Query.class), eq(Expense.class))).thenReturn(Stream.of(
+      expense("1", "=HYPERLINK(\"x\")"),
+      expense("2", "\tcmd"),
+      expense("3", "\rcmd"),
+      expense("4", "Dinner")));
+
+    List<String> rows = exportCsv();
+
+    assertThat(rows.get(1)).contains(",\"'=HYPERLINK(\"\"x\"\")\",");
+    assertThat(rows.get(2)).contains(",'\tcmd,");
+    assertThat(rows.get(3)).contains(",\"'\rcmd\",");
+    assertThat(rows.get(4)).contains(",Dinner,");
+  }
+
+  private List<String> exportCsv() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exportService.export("group-1", ExportFormatEnum.CSV, out);
+    return List.of(out.toString(StandardCharsets.UTF_8).split("\n"));
+  }
+
+  private static Expense expense(String id, String description) {
+    Expense expense = new Expense();
+    expense.setId(id);
+    expense.setGroupId("group-1");
+    expense.setDescription(description);
+    expense.setPaidBy("user-1");
+    expense.setCreateAt(new Date(0));
+    return expense;
+  }
+}
@@ -0,0 +1,160 @@
+package com.BillSyncOrg.BillSync.service.group;
+
+import com.BillSyncOrg.BillSync.dto.groupRecords.SettlementTransfer;
+import com.BillSyncOrg.BillSync.service.balances.BalanceLedgerService;
+import com.BillSyncOrg.BillSync.service.users.UserNameLoader;
+import com.BillSyncOrg.BillSync.util.cache.ResourceVersionStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SettlementServiceTest {
+
+  private static final Map<String, Map<String, Long>> DEBTS =
+    Map.of("alice", Map.of("bob", 500L));
+
+  private final BalanceLedgerService balanceLedgerService = mock(BalanceLedgerService.class);
+
+  private final ResourceVersionStore versionStore = mock(ResourceVersionStore.class);
+
+  private final SettlementService settlementService = new SettlementService(
+    mock(UtilGroupService.class), balanceLedgerService, mock(UserNameLoader.class), versionStore,
+    16);
+
+  @Test
+  void settlementIsCachedWhileTheGroupVersionIsUnchanged() throws Exception {
+    when(versionStore.current("group:group-1")).thenReturn("v1", "v1", "v2");
+    when(balanceLedgerService.getDebts("group-1")).thenReturn(DEBTS).thenReturn(Map.of());
+
+    List<SettlementTransfer> first = settlementService.getSettlement("group-1");
+    assertThat(first).hasSize(1);
+    assertThat(settlementService.getSettlement("group-1")).isSameAs(first);
+    verify(balanceLedgerService, times(1)).getDebts("group-1");
+
+    // Another instance wrote the ledger and replaced the version.
+    assertThat(settlementService.getSettlement("group-1")).isEmpty();
+  }
+
+  @Test
+  void invalidateDropsTheLocalEntry() throws Exception {
+    when(versionStore.current("group:group-1")).thenReturn("v1");
+    when(balanceLedgerService.getDebts("group-1")).thenReturn(DEBTS).thenReturn(Map.of());
+
+    assertThat(settlementService.getSettlement("group-1")).hasSize(1);
+    settlementService.invalidate("group-1");
+    assertThat(settlementService.getSettlement("group-1")).isEmpty();
+  }
+
+  @Test
+  void emptyLedgerNeedsNoTransfers() {
+    assertThat(settlementService.simplifyDebts(Map.of())).isEmpty();
+  }
+
+  @Test
+  void balancedGroupNeedsNoTransfers() {
+    // Alice and Bob owe each other the same amount.
+    Map<String, Map<String, Long>> debts = Map.of(
+      "alice", Map.of("bob", 500L),
+      "bob", Map.of("alice", 500L));
+
+    assertThat(settlementService.simplifyDebts(debts)).isEmpty();
+  }
+
+  @Test
+  void cycleCancelsOut() {
+    Map<String, Map<String, Long>> debts = Map.of(
+      "alice", Map.of("bob", 300L),
+      "bob", Map.of("carol", 300L),
+      "carol", Map.of("alice", 300L));
+
+    assertThat(settlementService.simplifyDebts(debts)).isEmpty();
+  }
+
+  @Test
+  void unevenCycleLeavesOnlyTheDifference() {
+    Map<String, Map<String, Long>> debts = Map.of(
+      "alice", Map.of("bob", 500L),
+      "bob", Map.of("carol", 300L),
+      "carol", Map.of("alice", 300L));
+
+    List<SettlementTransfer> transfers = settlementService.simplifyDebts(debts);
+
+    assertThat(transfers).hasSize(1);
+    assertTransfer(transfers.get(0), "alice", "bob", 200L);
+  }
+
+  @Test
+  void chainIsShortcut() {
+    // Alice owes Bob, who owes Carol the same amount; Alice can pay Carol directly.
+    Map<String, Map<String, Long>> debts = Map.of(
+      "alice", Map.of("bob", 1000L),
+      "bob", Map.of("carol", 1000L));
+
+    List<SettlementTransfer> transfers = settlementService.simplifyDebts(debts);
+
+    assertThat(transfers).hasSize(1);
+    assertTransfer(transfers.get(0), "alice", "carol", 1000L);
+  }
+
+  @Test
+  void settlesEveryoneWithAtMostOneTransferLessThanMembers() {
+    Map<String, Map<String, Long>> debts = new HashMap<>();
+    debts.put("bob", Map.of("alice", 1000L, "carol", 250L));
+    debts.put("dave", Map.of("alice", 700L, "erin", 50L));
+    debts.put("erin", Map.of("carol", 400L, "bob", 100L));
+    debts.put("carol", Map.of("dave", 80L));
+
+    List<SettlementTransfer> transfers = settlementService.simplifyDebts(debts);
+
+    assertThat(transfers).hasSizeLessThanOrEqualTo(4);
+    assertThat(applyTransfers(netBalances(debts), transfers)).allSatisfy(
+      (userId, balance) -> assertThat(balance).as(userId).isZero());
+  }
+
+  @Test
+  void largestBalancesAreMatchedFirst() {
+    Map<String, Map<String, Long>> debts = Map.of(
+      "bob", Map.of("alice", 900L),
+      "carol", Map.of("alice", 100L, "dave", 200L));
+
+    List<SettlementTransfer> transfers = settlementService.simplifyDebts(debts);
+
+    assertThat(transfers).hasSize(3);
+    assertTransfer(transfers.get(0), "bob", "alice", 900L);
+    assertThat(transfers).extracting(SettlementTransfer::getAmount)
+      .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+  }
+
+  private static void assertTransfer(SettlementTransfer transfer, String from, String to,
+                                     long amount) {
+    assertThat(transfer.getFrom()).isEqualTo(from);
+    assertThat(transfer.getTo()).isEqualTo(to);
+    assertThat(transfer.getAmount()).isEqualTo(amount);
+  }
+
+  private static Map<String, Long> netBalances(Map<String, Map<String, Long>> debts) {
+    Map<String, Long> balances = new HashMap<>();
+    debts.forEach((debtor, creditors) -> creditors.forEach((creditor, amount) -> {
+      balances.merge(debtor, -amount, Long::sum);
+      balances.merge(creditor, amount, Long::sum);
+    }));
+    return balances;
+  }
+
+  private static Map<String, Long> applyTransfers(Map<String, Long> balances,
+                                                  List<SettlementTransfer> transfers) {
+    for (SettlementTransfer transfer : transfers) {
+      balances.merge(transfer.getFrom(), transfer.getAmount(), Long::sum);
+      balances.merge(transfer.getTo(), -transfer.getAmount(), Long::sum);
+    }
+    return balances;
+  }
+}
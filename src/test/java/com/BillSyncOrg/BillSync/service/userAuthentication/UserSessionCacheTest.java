@@ -0,0 +1,68 @@
+package com.BillSyncOrg.BillSync.service.userAuthentication;
+
+import com.BillSyncOrg.BillSync.model.User;
+import com.BillSyncOrg.BillSync.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSessionCacheTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+
+  private final UserSessionCache cache = new UserSessionCache(userRepository, 16, 60_000);
+
+  @Test
+  void versionIsCachedAfterTheFirstRead() {
+    when(userRepository.findTokenVersionById("user-1")).thenReturn(Optional.of(user(3)));
+
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(3L);
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(3L);
+    verify(userRepository, times(1)).findTokenVersionById("user-1");
+  }
+
+  @Test
+  void invalidateForcesANewRead() {
+    when(userRepository.findTokenVersionById("user-1"))
+      .thenReturn(Optional.of(user(3)), Optional.of(user(4)));
+
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(3L);
+    cache.invalidate("user-1");
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(4L);
+  }
+
+  @Test
+  void logoutDuringAReadDoesNotCacheTheOldVersion() {
+    // The logout bumps the version and invalidates after the old version was read.
+    when(userRepository.findTokenVersionById("user-1"))
+      .thenAnswer(invocation -> {
+        cache.invalidate("user-1");
+        return Optional.of(user(3));
+      })
+      .thenReturn(Optional.of(user(4)));
+
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(3L);
+    assertThat(cache.getTokenVersion("user-1")).isEqualTo(4L);
+  }
+
+  @Test
+  void unknownUsersAreNotCached() {
+    when(userRepository.findTokenVersionById("ghost")).thenReturn(Optional.empty());
+
+    assertThat(cache.getTokenVersion("ghost")).isNull();
+    assertThat(cache.getTokenVersion("ghost")).isNull();
+    verify(userRepository, times(2)).findTokenVersionById("ghost");
+  }
+
+  private static User user(long tokenVersion) {
+    User user = new User();
+    user.setTokenVersion(tokenVersion);
+    return user;
+  }
+}
@@ -0,0 +1,38 @@
+package com.BillSyncOrg.BillSync.support;
+
+import com.BillSyncOrg.BillSync.service.userAuthentication.TokenBlacklistService;
+import com.BillSyncOrg.BillSync.service.userAuthentication.UserSessionCache;
+import com.BillSyncOrg.BillSync.util.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stubs the collaborators of {@code JwtAuthenticationFilter} so that controller tests can send
+ * an authenticated request without a real key or database.
+ */
+public final class AuthenticatedRequests {
+
+  public static final String USER_ID = "user-1";
+
+  public static final String TOKEN = "test-token";
+
+  public static final String AUTHORIZATION = "Bearer " + TOKEN;
+
+  private AuthenticatedRequests() {
+  }
+
+  /**
+   * Makes {@link #TOKEN} a valid token of {@link #USER_ID}.
+   */
+  public static void stubValidToken(JwtUtil jwtUtil, UserSessionCache userSessionCache,
+                                    TokenBlacklistService tokenBlacklistService) {
+    Claims claims = Jwts.claims().setSubject(USER_ID);
+    claims.put(JwtUtil.TOKEN_VERSION_CLAIM, 0L);
+    when(jwtUtil.extractAllClaims(TOKEN)).thenReturn(claims);
+    when(userSessionCache.getTokenVersion(USER_ID)).thenReturn(0L);
+    when(tokenBlacklistService.isBlacklisted(anyString())).thenReturn(false);
+  }
+}
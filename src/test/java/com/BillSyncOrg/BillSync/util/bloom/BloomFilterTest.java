@@ -0,0 +1,60 @@
+package com.BillSyncOrg.BillSync.util.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+  private static final int INSERTIONS = 10_000;
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  @Test
+  void emptyFilterContainsNothing() {
+    BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+    assertThat(filter.mightContain("token-1")).isFalse();
+    assertThat(filter.mightContain("")).isFalse();
+  }
+
+  @Test
+  void addedValuesAreNeverReportedAbsent() {
+    BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < INSERTIONS; i++) {
+      filter.put("token-" + i);
+    }
+
+    for (int i = 0; i < INSERTIONS; i++) {
+      assertThat(filter.mightContain("token-" + i)).as("token-" + i).isTrue();
+    }
+  }
+
+  @Test
+  void overfilledFilterHasNoFalseNegatives() {
+    BloomFilter filter = new BloomFilter(100, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < INSERTIONS; i++) {
+      filter.put("token-" + i);
+    }
+
+    for (int i = 0; i < INSERTIONS; i++) {
+      assertThat(filter.mightContain("token-" + i)).as("token-" + i).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositiveRateIsCloseToConfigured() {
+    BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+    for (int i = 0; i < INSERTIONS; i++) {
+      filter.put("token-" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < INSERTIONS; i++) {
+      if (filter.mightContain("other-" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat((double) falsePositives / INSERTIONS).isLessThan(FALSE_POSITIVE_RATE * 3);
+  }
+}
@@ -0,0 +1,75 @@
+package com.BillSyncOrg.BillSync.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LruCacheTest {
+
+  @Test
+  void evictsLeastRecentlyInsertedEntryWhenFull() {
+    LruCache<String, Integer> cache = new LruCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo(2);
+    assertThat(cache.get("c")).isEqualTo(3);
+  }
+
+  @Test
+  void readingAnEntryProtectsItFromEviction() {
+    LruCache<String, Integer> cache = new LruCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a");
+    cache.put("c", 3);
+
+    assertThat(cache.get("a")).isEqualTo(1);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo(3);
+  }
+
+  @Test
+  void replacingAnEntryDoesNotEvict() {
+    LruCache<String, Integer> cache = new LruCache<>(2);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("a", 10);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isEqualTo(10);
+    assertThat(cache.get("b")).isEqualTo(2);
+  }
+
+  @Test
+  void removeAndClearDropEntries() {
+    LruCache<String, Integer> cache = new LruCache<>(3);
+    cache.put("a", 1);
+    cache.put("b", 2);
+
+    cache.remove("a");
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.size()).isEqualTo(1);
+
+    cache.clear();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void sizeZeroDisablesCaching() {
+    LruCache<String, Integer> cache = new LruCache<>(0);
+    cache.put("a", 1);
+
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void negativeSizeIsRejected() {
+    assertThatThrownBy(() -> new LruCache<>(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
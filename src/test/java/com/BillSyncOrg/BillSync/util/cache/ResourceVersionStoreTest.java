@@ -0,0 +1,68 @@
+package com.BillSyncOrg.BillSync.util.cache;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResourceVersionStoreTest {
+
+  private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+  private final ResourceVersionStore store = new ResourceVersionStore(mongoTemplate, 16, 60_000);
+
+  @Test
+  void unwrittenResourceHasTheInitialVersion() {
+    assertThat(store.current("users")).isEqualTo(ResourceVersionStore.INITIAL_VERSION);
+  }
+
+  @Test
+  void freshVersionIsServedFromMemory() {
+    when(findVersion()).thenReturn(new Document("version", "v1"));
+
+    assertThat(store.current("users")).isEqualTo("v1");
+    assertThat(store.current("users")).isEqualTo("v1");
+    verify(mongoTemplate, times(1))
+      .findOne(any(Query.class), eq(Document.class), eq(ResourceVersionStore.COLLECTION));
+  }
+
+  @Test
+  void bumpReplacesTheLocalVersionWithoutARead() {
+    store.bump("users");
+    String bumped = store.current("users");
+
+    assertThat(bumped).isNotEqualTo(ResourceVersionStore.INITIAL_VERSION);
+    verify(mongoTemplate, never())
+      .findOne(any(Query.class), eq(Document.class), eq(ResourceVersionStore.COLLECTION));
+
+    store.bump("users");
+    assertThat(store.current("users")).isNotEqualTo(bumped);
+  }
+
+  @Test
+  void bumpDuringAReadDoesNotLeaveTheOldVersionCached() {
+    when(findVersion())
+      .thenAnswer(invocation -> {
+        store.bump("users");
+        return new Document("version", "old");
+      })
+      .thenReturn(new Document("version", "new"));
+
+    assertThat(store.current("users")).isEqualTo("old");
+    assertThat(store.current("users")).isEqualTo("new");
+  }
+
+  private Document findVersion() {
+    return mongoTemplate.findOne(any(Query.class), eq(Document.class),
+      eq(ResourceVersionStore.COLLECTION));
+  }
+}
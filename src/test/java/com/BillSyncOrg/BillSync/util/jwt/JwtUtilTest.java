@@ -0,0 +1,54 @@
+package com.BillSyncOrg.BillSync.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+  private static final String SECRET = "TestSecretKeyThatIsLongEnoughForHmacSha256Signing";
+
+  @Test
+  void verifiedClaimsAreCached() throws Exception {
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 16);
+    String token = jwtUtil.generateToken("user-1", 0L);
+
+    Claims claims = jwtUtil.extractAllClaims(token);
+
+    assertThat(claims.getSubject()).isEqualTo("user-1");
+    assertThat(jwtUtil.extractAllClaims(token)).isSameAs(claims);
+  }
+
+  @Test
+  void tokenVersionIsEmbeddedInTheClaims() throws Exception {
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 16);
+
+    Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken("user-1", 7L));
+
+    assertThat(JwtUtil.extractTokenVersion(claims)).isEqualTo(7L);
+  }
+
+  @Test
+  void disabledCacheStillVerifiesTokens() throws Exception {
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 0);
+    String token = jwtUtil.generateToken("user-1", 0L);
+
+    Claims claims = jwtUtil.extractAllClaims(token);
+
+    assertThat(claims.getSubject()).isEqualTo("user-1");
+    assertThat(jwtUtil.extractAllClaims(token)).isNotSameAs(claims);
+  }
+
+  @Test
+  void tokensSignedWithAnotherKeyAreRejected() throws Exception {
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 16);
+    String foreignToken = new JwtUtil(SECRET + "-other", 16).generateToken("user-1", 0L);
+
+    assertThatThrownBy(() -> jwtUtil.extractAllClaims(foreignToken))
+      .isInstanceOf(JwtException.class);
+    assertThat(jwtUtil.extractUserId(foreignToken)).isNull();
+  }
+}
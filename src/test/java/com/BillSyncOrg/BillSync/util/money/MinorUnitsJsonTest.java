@@ -0,0 +1,65 @@
+package com.BillSyncOrg.BillSync.util.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round-trips amounts through {@link MinorUnitsSerializer} and {@link MinorUnitsDeserializer}.
+ */
+class MinorUnitsJsonTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  static class Amount {
+
+    @JsonSerialize(using = MinorUnitsSerializer.class)
+    @JsonDeserialize(using = MinorUnitsDeserializer.class)
+    public long amount;
+  }
+
+  @Test
+  void serializesMinorUnitsAsDecimal() throws Exception {
+    Amount value = new Amount();
+    value.amount = 1234;
+
+    assertThat(objectMapper.writeValueAsString(value)).isEqualTo("{\"amount\":12.34}");
+  }
+
+  @Test
+  void roundTripKeepsTheExactAmount() throws Exception {
+    for (long minorUnits : new long[] {0, 1, 10, 99, 100, 1234, -250, 999_999_999_999L}) {
+      Amount value = new Amount();
+      value.amount = minorUnits;
+
+      Amount read = objectMapper.readValue(objectMapper.writeValueAsString(value), Amount.class);
+
+      assertThat(read.amount).isEqualTo(minorUnits);
+    }
+  }
+
+  @Test
+  void acceptsNumbersAndStrings() throws Exception {
+    assertThat(objectMapper.readValue("{\"amount\":12.3}", Amount.class).amount).isEqualTo(1230);
+    assertThat(objectMapper.readValue("{\"amount\":7}", Amount.class).amount).isEqualTo(700);
+    assertThat(objectMapper.readValue("{\"amount\":\" 0.05 \"}", Amount.class).amount)
+      .isEqualTo(5);
+  }
+
+  @Test
+  void rejectsMoreThanTwoDecimals() {
+    assertThatThrownBy(() -> objectMapper.readValue("{\"amount\":1.005}", Amount.class))
+      .isInstanceOf(InvalidFormatException.class);
+  }
+
+  @Test
+  void rejectsNonNumericStrings() {
+    assertThatThrownBy(() -> objectMapper.readValue("{\"amount\":\"ten\"}", Amount.class))
+      .isInstanceOf(InvalidFormatException.class);
+  }
+}
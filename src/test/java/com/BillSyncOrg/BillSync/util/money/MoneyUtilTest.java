@@ -0,0 +1,60 @@
+package com.BillSyncOrg.BillSync.util.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyUtilTest {
+
+  @Test
+  void evenSplitHasNoRemainder() {
+    assertThat(MoneyUtil.split(900, 3)).containsExactly(300, 300, 300);
+  }
+
+  @Test
+  void remainderGoesToTheFirstParticipants() {
+    assertThat(MoneyUtil.split(1000, 3)).containsExactly(334, 333, 333);
+    assertThat(MoneyUtil.split(1001, 4)).containsExactly(251, 250, 250, 250);
+    assertThat(MoneyUtil.split(1003, 4)).containsExactly(251, 251, 251, 250);
+  }
+
+  @Test
+  void singleMinorUnitGoesToTheFirstParticipant() {
+    assertThat(MoneyUtil.split(1, 5)).containsExactly(1, 0, 0, 0, 0);
+  }
+
+  @Test
+  void sharesAlwaysAddUpToTheAmount() {
+    for (long amount = 0; amount <= 250; amount++) {
+      for (int parts = 1; parts <= 12; parts++) {
+        long[] shares = MoneyUtil.split(amount, parts);
+        assertThat(shares).hasSize(parts);
+        assertThat(Arrays.stream(shares).sum()).isEqualTo(amount);
+        assertThat(shares[0] - shares[parts - 1]).isBetween(0L, 1L);
+      }
+    }
+  }
+
+  @Test
+  void splittingIntoNoPartsIsRejected() {
+    assertThatThrownBy(() -> MoneyUtil.split(100, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void convertsBetweenMajorAndMinorUnits() {
+    assertThat(MoneyUtil.toMinorUnits(new BigDecimal("12.34"))).isEqualTo(1234);
+    assertThat(MoneyUtil.toMinorUnits(new BigDecimal("5"))).isEqualTo(500);
+    assertThat(MoneyUtil.toMajorUnits(1234)).isEqualTo(new BigDecimal("12.34"));
+  }
+
+  @Test
+  void amountsWithMoreThanTwoDecimalsAreRejected() {
+    assertThatThrownBy(() -> MoneyUtil.toMinorUnits(new BigDecimal("0.001")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
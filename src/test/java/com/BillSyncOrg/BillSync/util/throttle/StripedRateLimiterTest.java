@@ -0,0 +1,79 @@
+package com.BillSyncOrg.BillSync.util.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedRateLimiterTest {
+
+  // One permit every 200 ms, so the timing below has a wide margin.
+  private static final int PERMITS_PER_MINUTE = 300;
+
+  @Test
+  void idleKeyGetsItsFullBurst() {
+    StripedRateLimiter limiter = new StripedRateLimiter(PERMITS_PER_MINUTE, 3, 1024);
+
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isFalse();
+  }
+
+  @Test
+  void permitsRefillAtTheConfiguredRate() throws InterruptedException {
+    StripedRateLimiter limiter = new StripedRateLimiter(PERMITS_PER_MINUTE, 2, 1024);
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isFalse();
+
+    Thread.sleep(250);
+
+    // A little more than one permit interval has passed, so exactly one permit is back.
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isFalse();
+  }
+
+  @Test
+  void keysOnDifferentStripesAreLimitedIndependently() {
+    // "alice" and "bob" hash to different stripes out of 1024.
+    StripedRateLimiter limiter = new StripedRateLimiter(PERMITS_PER_MINUTE, 1, 1024);
+
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("alice")).isFalse();
+    assertThat(limiter.tryAcquire("bob")).isTrue();
+  }
+
+  @Test
+  void keysSharingAStripeShareABucket() {
+    StripedRateLimiter limiter = new StripedRateLimiter(PERMITS_PER_MINUTE, 1, 1);
+
+    assertThat(limiter.tryAcquire("alice")).isTrue();
+    assertThat(limiter.tryAcquire("bob")).isFalse();
+  }
+
+  @Test
+  void stripeCountIsRoundedUpToAPowerOfTwo() {
+    // Three stripes become four; with a single permit each, four keys on distinct stripes all
+    // get one, which two buckets could not give.
+    StripedRateLimiter limiter = new StripedRateLimiter(PERMITS_PER_MINUTE, 1, 3);
+    int granted = 0;
+    for (int i = 0; i < 64; i++) {
+      if (limiter.tryAcquire("user-" + i)) {
+        granted++;
+      }
+    }
+
+    assertThat(granted).isEqualTo(4);
+  }
+
+  @Test
+  void rejectsNonPositiveSettings() {
+    assertThatThrownBy(() -> new StripedRateLimiter(0, 1, 1))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new StripedRateLimiter(1, 0, 1))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new StripedRateLimiter(1, 1, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}